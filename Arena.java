@@ -0,0 +1,337 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+// The Arena class holds the static level data of a match: its size, the player start, the wall tiles, the
+// collision grid baked from them and which enemy spawn slots the walls cover. It never changes, so any
+// number of worlds can share one. Arenas come from the built-in layout, from ArenaGenerator, or from level
+// files in two forms: readable text for authoring, and a baked binary form that is memory-mapped and copied
+// straight into the collision grid and spawn bitmap, without parsing tiles or creating per-tile objects.
+public final class Arena {
+    // Text form: one directive per line, blank lines and lines starting with # are ignored.
+    //   size WIDTH HEIGHT         arena size in pixels; must come first
+    //   player X Y                top-left corner of the player's start (default: centered, 5/7 of the way down)
+    //   wall X Y                  one wall tile with its top-left corner at (X, Y)
+    //   row X Y COUNT             COUNT tiles side by side, starting at (X, Y)
+    //   column X Y COUNT          COUNT tiles stacked downwards, starting at (X, Y)
+    // Tiles are TILE_WIDTH x TILE_HEIGHT pixels and may sit anywhere, though the lattice is the fast case.
+    private static final String[] STANDARD = {
+            "# The standard arena: a closed border and a symmetrical set of interior walls",
+            "size 800 700",
+            "player 400 500",
+            "row 0 0 58",
+            "row 0 684 58",
+            "column 0 16 42",
+            "column 786 16 42",
+            "column 56 350 14",
+            "column 70 350 14",
+            "column 140 414 10",
+            "column 154 414 10",
+            "row 304 350 14",
+            "column 730 350 14",
+            "column 716 350 14",
+            "column 646 414 10",
+            "column 632 414 10",
+    };
+
+    // Binary form, big-endian: int MAGIC, int VERSION, int width, int height, int tile width, int tile height,
+    // double player x, double player y, int tile count, that many {x, y} int pairs, the WallGrid (see
+    // WallGrid.write), int spawn columns, int spawn rows, then the spawn slot bitmap as longs.
+    private static final int MAGIC = 0x41524E41; // "ARNA"
+    private static final int VERSION = 2;       // 2: spawn slots reaching past the arena edge are blocked
+    private static final int PLAYER_CLEARANCE = 96; // Generated arenas keep this box around the start free
+
+    // Fields
+    private final int width;
+    private final int height;
+    private final double playerX;
+    private final double playerY;
+    private final int[] tiles;            // {x, y} of each wall tile, packed
+    private final WallGrid grid;
+    private final int spawnColumns;       // Enemies spawn on the tile lattice in the upper half of the arena
+    private final int spawnRows;
+    private final long[] spawnBlocked;
+
+    // Builds an arena from tile positions, baking the collision grid and spawn bitmap.
+    private Arena(int width, int height, double playerX, double playerY, List<int[]> tileList) {
+        this.width = width;
+        this.height = height;
+        this.playerX = playerX;
+        this.playerY = playerY;
+        this.tiles = new int[tileList.size() * 2];
+        for (int i = 0; i < tileList.size(); i++) {
+            tiles[2 * i] = tileList.get(i)[0];
+            tiles[2 * i + 1] = tileList.get(i)[1];
+        }
+        this.grid = new WallGrid(width, height, World.TILE_WIDTH, World.TILE_HEIGHT, tileList);
+        this.spawnColumns = width / World.TILE_WIDTH;
+        this.spawnRows = (height / 2) / World.TILE_HEIGHT;
+        this.spawnBlocked = SpawnIndex.blockedSlots(grid, World.TILE_WIDTH, World.TILE_HEIGHT, spawnColumns, spawnRows);
+    }
+
+    // Assembles an arena from already baked parts, as read from a binary level file.
+    private Arena(int width, int height, double playerX, double playerY, int[] tiles, WallGrid grid,
+                  int spawnColumns, int spawnRows, long[] spawnBlocked) {
+        this.width = width;
+        this.height = height;
+        this.playerX = playerX;
+        this.playerY = playerY;
+        this.tiles = tiles;
+        this.grid = grid;
+        this.spawnColumns = spawnColumns;
+        this.spawnRows = spawnRows;
+        this.spawnBlocked = spawnBlocked;
+    }
+
+    // Returns the hand-made arena of the standard game.
+    public static Arena standard() {
+        try {
+            return parse(Arrays.asList(STANDARD), "standard arena");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Returns a seeded random arena of the given size, with the player start kept clear.
+    public static Arena generate(int width, int height, long seed) {
+        double playerX = width / 2.0;
+        double playerY = height * 5 / 7.0;
+        List<int[]> tiles = ArenaGenerator.generate(width, height, seed,
+                playerX - PLAYER_CLEARANCE / 2.0, playerY - PLAYER_CLEARANCE / 2.0,
+                PLAYER_CLEARANCE + EntityStore.TANK_SIZE, PLAYER_CLEARANCE + EntityStore.TANK_SIZE);
+        return new Arena(width, height, playerX, playerY, tiles);
+    }
+
+    // Loads a level file in either form; binary files are recognized by their magic number.
+    public static Arena load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() >= Integer.BYTES) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (buffer.getInt(0) == MAGIC) return read(buffer, file.toString());
+            }
+        }
+        return parse(Files.readAllLines(file), file.toString());
+    }
+
+    // Parses the text form.
+    private static Arena parse(List<String> lines, String source) throws IOException {
+        int width = -1;
+        int height = -1;
+        double playerX = Double.NaN;
+        double playerY = Double.NaN;
+        List<int[]> tiles = new ArrayList<>();
+
+        for (int n = 0; n < lines.size(); n++) {
+            String line = lines.get(n).trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            String[] words = line.split("\\s+");
+            try {
+                if (width < 0 && !words[0].equals("size")) throw new IllegalArgumentException("size must come first");
+                switch (words[0]) {
+                    case "size":
+                        expect(words, 3);
+                        width = Integer.parseInt(words[1]);
+                        height = Integer.parseInt(words[2]);
+                        if (width < 8 * World.TILE_WIDTH || height < 8 * World.TILE_HEIGHT) {
+                            throw new IllegalArgumentException("arena too small");
+                        }
+                        break;
+                    case "player":
+                        expect(words, 3);
+                        playerX = Double.parseDouble(words[1]);
+                        playerY = Double.parseDouble(words[2]);
+                        break;
+                    case "wall":
+                        expect(words, 3);
+                        tiles.add(new int[]{Integer.parseInt(words[1]), Integer.parseInt(words[2])});
+                        break;
+                    case "row":
+                    case "column":
+                        expect(words, 4);
+                        int x = Integer.parseInt(words[1]);
+                        int y = Integer.parseInt(words[2]);
+                        int count = Integer.parseInt(words[3]);
+                        if (count <= 0) throw new IllegalArgumentException("count must be positive");
+                        boolean row = words[0].equals("row");
+                        for (int i = 0; i < count; i++) {
+                            tiles.add(row ? new int[]{x + i * World.TILE_WIDTH, y} : new int[]{x, y + i * World.TILE_HEIGHT});
+                        }
+                        break;
+                    default:
+                        throw new IllegalArgumentException("unknown directive " + words[0]);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IOException(source + ", line " + (n + 1) + ": " + e.getMessage(), e);
+            }
+        }
+        if (width < 0) throw new IOException(source + ": no size given");
+
+        if (Double.isNaN(playerX)) {
+            playerX = width / 2.0;
+            playerY = height * 5 / 7.0;
+        }
+        if (playerX < 0 || playerY < 0 || playerX + EntityStore.TANK_SIZE > width || playerY + EntityStore.TANK_SIZE > height) {
+            throw new IOException(source + ": player start lies outside the arena");
+        }
+        return new Arena(width, height, playerX, playerY, tiles);
+    }
+
+    private static void expect(String[] words, int count) {
+        if (words.length != count) throw new IllegalArgumentException(words[0] + " takes " + (count - 1) + " numbers");
+    }
+
+    // Reads the binary form from a mapped file; the bulk arrays are copied out with one transfer each.
+    private static Arena read(ByteBuffer in, String source) throws IOException {
+        try {
+            in.getInt(); // Magic, already checked
+            int version = in.getInt();
+            if (version != VERSION) throw new IOException(source + ": unsupported arena version " + version);
+
+            int width = in.getInt();
+            int height = in.getInt();
+            if (width < 8 * World.TILE_WIDTH || height < 8 * World.TILE_HEIGHT) {
+                throw new IllegalArgumentException("arena too small");
+            }
+            int tileWidth = in.getInt();
+            int tileHeight = in.getInt();
+            if (tileWidth != World.TILE_WIDTH || tileHeight != World.TILE_HEIGHT) {
+                throw new IOException(source + ": baked for " + tileWidth + "x" + tileHeight + " tiles");
+            }
+            double playerX = in.getDouble();
+            double playerY = in.getDouble();
+            if (!(playerX >= 0 && playerY >= 0 && playerX + EntityStore.TANK_SIZE <= width && playerY + EntityStore.TANK_SIZE <= height)) {
+                throw new IllegalArgumentException("player start lies outside the arena");
+            }
+
+            int tileCount = in.getInt();
+            if (tileCount < 0) throw new IllegalArgumentException("negative tile count");
+            if (tileCount > in.remaining() / (2 * Integer.BYTES)) {
+                throw new IllegalArgumentException("tile count " + tileCount + " exceeds the file");
+            }
+            int[] tiles = new int[Math.multiplyExact(tileCount, 2)];
+            in.asIntBuffer().get(tiles);
+            in.position(in.position() + tiles.length * Integer.BYTES);
+
+            WallGrid grid = WallGrid.read(in, width, height);
+
+            // The spawn lattice follows from the arena size, so any other shape means a damaged file
+            int spawnColumns = in.getInt();
+            int spawnRows = in.getInt();
+            if (spawnColumns != width / World.TILE_WIDTH || spawnRows != (height / 2) / World.TILE_HEIGHT) {
+                throw new IllegalArgumentException("spawn lattice " + spawnColumns + "x" + spawnRows + " does not fit the arena");
+            }
+            long spawnWords = ((long) spawnColumns * spawnRows + 63) >>> 6;
+            if (spawnWords > in.remaining() / Long.BYTES) throw new IllegalArgumentException("spawn bitmap exceeds the file");
+            long[] spawnBlocked = new long[(int) spawnWords];
+            in.asLongBuffer().get(spawnBlocked);
+            return new Arena(width, height, playerX, playerY, tiles, grid, spawnColumns, spawnRows, spawnBlocked);
+        } catch (BufferUnderflowException | IllegalArgumentException | ArithmeticException e) {
+            String detail = e.getMessage() != null ? " (" + e.getMessage() + ")" : "";
+            throw new IOException(source + ": truncated or corrupt arena file" + detail, e);
+        }
+    }
+
+    // Writes the baked binary form.
+    public void writeBinary(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(width);
+            out.writeInt(height);
+            out.writeInt(World.TILE_WIDTH);
+            out.writeInt(World.TILE_HEIGHT);
+            out.writeDouble(playerX);
+            out.writeDouble(playerY);
+            out.writeInt(getTileCount());
+            for (int value : tiles) {
+                out.writeInt(value);
+            }
+            grid.write(out);
+            out.writeInt(spawnColumns);
+            out.writeInt(spawnRows);
+            for (long word : spawnBlocked) {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    // Writes the text form; runs of tiles side by side become row directives.
+    public void writeText(Path file) throws IOException {
+        Integer[] order = new Integer[getTileCount()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(this::getTileY).thenComparingInt(this::getTileX));
+
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println("size " + width + " " + height);
+            out.println("player " + format(playerX) + " " + format(playerY));
+            for (int i = 0; i < order.length; ) {
+                int x = getTileX(order[i]);
+                int y = getTileY(order[i]);
+                int count = 1;
+                while (i + count < order.length && getTileY(order[i + count]) == y
+                        && getTileX(order[i + count]) == x + count * World.TILE_WIDTH) {
+                    count++;
+                }
+                out.println(count == 1 ? "wall " + x + " " + y : "row " + x + " " + y + " " + count);
+                i += count;
+            }
+        }
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) ? Long.toString((long) value) : Double.toString(value);
+    }
+
+    // Creates a fresh spawn index over this arena's slots; the wall bitmap is shared, not copied.
+    public SpawnIndex newSpawnIndex() {
+        return new SpawnIndex(spawnBlocked, World.TILE_WIDTH, World.TILE_HEIGHT, spawnColumns, spawnRows);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public double getPlayerX() {
+        return playerX;
+    }
+
+    public double getPlayerY() {
+        return playerY;
+    }
+
+    public WallGrid getGrid() {
+        return grid;
+    }
+
+    public int getTileCount() {
+        return tiles.length / 2;
+    }
+
+    // Returns the top-left corner of a wall tile.
+    public int getTileX(int tile) {
+        return tiles[2 * tile];
+    }
+
+    public int getTileY(int tile) {
+        return tiles[2 * tile + 1];
+    }
+}
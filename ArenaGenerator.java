@@ -0,0 +1,62 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// The ArenaGenerator class builds seeded wall layouts for arenas of any size.
+// Every tile sits on the tile lattice, so the collision grid gets one cell per tile however large the arena.
+public final class ArenaGenerator {
+    private static final int PIXELS_PER_BAR = 40_000; // Roughly the interior wall density of the standard arena
+    private static final int MIN_BAR_TILES = 4;
+    private static final int MAX_BAR_TILES = 12;
+
+    private ArenaGenerator() {
+    }
+
+    // Returns {x, y} wall tiles: a closed border plus random horizontal and vertical bars.
+    // No tile is placed inside the clear box, which keeps the player's start position open.
+    public static List<int[]> generate(int width, int height, long seed,
+                                       double clearX, double clearY, double clearWidth, double clearHeight) {
+        int tw = World.TILE_WIDTH;
+        int th = World.TILE_HEIGHT;
+        int columns = width / tw;
+        int rows = height / th;
+        List<int[]> tiles = new ArrayList<>();
+
+        // Borders, snapped to the lattice
+        for (int c = 0; c < columns; c++) {
+            tiles.add(new int[]{c * tw, 0});
+            tiles.add(new int[]{c * tw, (rows - 1) * th});
+        }
+        for (int r = 1; r < rows - 1; r++) {
+            tiles.add(new int[]{0, r * th});
+            tiles.add(new int[]{(columns - 1) * tw, r * th});
+        }
+
+        // Interior bars; a lattice cell is only used once, so overlapping bars do not duplicate tiles
+        boolean[] used = new boolean[columns * rows];
+        Random random = new Random(seed);
+        int bars = (int) ((long) width * height / PIXELS_PER_BAR);
+        for (int i = 0; i < bars; i++) {
+            boolean vertical = random.nextBoolean();
+            int length = MIN_BAR_TILES + random.nextInt(MAX_BAR_TILES - MIN_BAR_TILES + 1);
+            int c0 = 1 + random.nextInt(columns - 2);
+            int r0 = 1 + random.nextInt(rows - 2);
+
+            for (int j = 0; j < length; j++) {
+                int c = vertical ? c0 : c0 + j;
+                int r = vertical ? r0 + j : r0;
+                if (c >= columns - 1 || r >= rows - 1 || used[r * columns + c]) continue;
+
+                int x = c * tw;
+                int y = r * th;
+                boolean inClearBox = x < clearX + clearWidth && x + tw > clearX
+                        && y < clearY + clearHeight && y + th > clearY;
+                if (inClearBox) continue;
+
+                used[r * columns + c] = true;
+                tiles.add(new int[]{x, y});
+            }
+        }
+        return tiles;
+    }
+}
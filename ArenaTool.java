@@ -0,0 +1,28 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+// Writes an arena as a level file, in the readable text form or the baked binary form, and times loading it.
+// Usage: java ArenaTool text|binary OUT [--level=FILE | arena options, e.g. --arena=3200x2800 --walls=7]
+// Without options it writes the standard arena, a starting point for new levels; with --level it converts.
+public class ArenaTool {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || !(args[0].equals("text") || args[0].equals("binary"))) {
+            System.err.println("Usage: java ArenaTool text|binary OUT [--level=FILE | WorldConfig arena options]");
+            System.exit(2);
+        }
+        Arena arena = WorldConfig.fromArgs(Arrays.asList(args).subList(2, args.length)).getArena();
+        Path out = Paths.get(args[1]);
+        if (args[0].equals("text")) arena.writeText(out);
+        else arena.writeBinary(out);
+
+        long start = System.nanoTime();
+        Arena loaded = Arena.load(out);
+        double millis = (System.nanoTime() - start) / 1e6;
+        System.out.printf("%s: %dx%d arena, %d wall tiles, %d bytes, loads in %.2f ms%n",
+                out, loaded.getWidth(), loaded.getHeight(), loaded.getTileCount(), Files.size(out), millis);
+    }
+}
@@ -0,0 +1,42 @@
+import javafx.scene.image.Image;
+import java.util.HashMap;
+import java.util.Map;
+
+// The Assets class loads each image in assets/ once and shares the decoded Image between all views.
+// Walls, bullets and explosions are created constantly, so decoding their PNG every time is wasted work.
+public final class Assets {
+    // File names of the images under assets/
+    public static final String BULLET = "bullet.png";
+    public static final String EXPLOSION = "explosion.png";
+    public static final String SMALL_EXPLOSION = "smallExplosion.png";
+    public static final String WALL = "wall.png";
+    public static final String ENEMY_TANK_1 = "whiteTank1.png";
+    public static final String ENEMY_TANK_2 = "whiteTank2.png";
+    public static final String PLAYER_TANK_1 = "yellowTank1.png";
+    public static final String PLAYER_TANK_2 = "yellowTank2.png";
+
+    private static final String[] ALL = {
+            BULLET, EXPLOSION, SMALL_EXPLOSION, WALL, ENEMY_TANK_1, ENEMY_TANK_2, PLAYER_TANK_1, PLAYER_TANK_2
+    };
+    private static final Map<String, Image> images = new HashMap<>();
+
+    private Assets() {
+    }
+
+    // Returns the shared image for a file in assets/, loading it on first use.
+    public static Image get(String fileName) {
+        Image image = images.get(fileName);
+        if (image == null) {
+            image = new Image("file:assets/" + fileName);
+            images.put(fileName, image);
+        }
+        return image;
+    }
+
+    // Loads every game image up front so the first shot or explosion does not hit the disk.
+    public static void preload() {
+        for (String fileName : ALL) {
+            get(fileName);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Runs many independent headless matches at once on a fixed thread pool and summarizes the results.
+// Each match has its own seed and policy instance; every worker thread reuses one World, and since a
+// match depends only on its seed and inputs, the results do not depend on the thread count.
+// Usage: java BatchRunner [--matches=N] [--threads=N] [--policy=random|script:KEYS*TICKS,...]
+//                         [--max-ticks=N] [--report=FILE.csv] [WorldConfig options, e.g. --seed=1]
+public class BatchRunner {
+    private static final long DEFAULT_MAX_SECONDS = 10 * 60;
+
+    // The outcome of one match.
+    private static final class Result {
+        final long seed;
+        final int score;
+        final long ticks;
+        final boolean gameOver;
+        final long nanos;
+
+        Result(long seed, int score, long ticks, boolean gameOver, long nanos) {
+            this.seed = seed;
+            this.score = score;
+            this.ticks = ticks;
+            this.gameOver = gameOver;
+            this.nanos = nanos;
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        int matchCount = 100;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long maxTicks = -1; // Default: ten minutes of game time at the configured tick rate
+        String policy = "random";
+        String report = null;
+        for (String arg : args) {
+            if (arg.startsWith("--matches=")) matchCount = Integer.parseInt(value(arg));
+            else if (arg.startsWith("--threads=")) threads = Integer.parseInt(value(arg));
+            else if (arg.startsWith("--max-ticks=")) maxTicks = Long.parseLong(value(arg));
+            else if (arg.startsWith("--policy=")) policy = value(arg);
+            else if (arg.startsWith("--report=")) report = value(arg);
+        }
+        WorldConfig config = WorldConfig.fromArgs(Arrays.asList(args));
+        PlayerPolicy.fromSpec(policy, 0); // Fail on a bad policy before starting any work
+        if (maxTicks < 0) maxTicks = DEFAULT_MAX_SECONDS * config.getTickRate();
+
+        // Match seeds come from one sequence, so a seeded batch is reproducible
+        Random seeds = config.isSeeded() ? new Random(config.getSeed()) : new Random();
+        ThreadLocal<World> worlds = ThreadLocal.withInitial(() -> new World(config));
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Result>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < matchCount; i++) {
+                long seed = seeds.nextLong();
+                String matchPolicy = policy;
+                long limit = maxTicks;
+                futures.add(pool.submit(() -> play(worlds.get(), seed, PlayerPolicy.fromSpec(matchPolicy, ~seed), limit)));
+            }
+
+            List<Result> results = new ArrayList<>();
+            for (Future<Result> future : futures) {
+                results.add(future.get());
+            }
+            long elapsed = System.nanoTime() - start;
+
+            System.out.print(summarize(results, elapsed, threads, policy, config));
+            if (report != null) writeCsv(report, results, config.getTickRate());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Plays one match until game over or the tick limit.
+    private static Result play(World world, long seed, PlayerPolicy policy, long maxTicks) {
+        long start = System.nanoTime();
+        world.reset(seed);
+        while (!world.isGameOver() && world.getTickCount() < maxTicks) {
+            world.tick(policy.nextInput(world));
+        }
+        return new Result(seed, world.getScore(), world.getTickCount(), world.isGameOver(), System.nanoTime() - start);
+    }
+
+    // Builds the summary: score distribution, survival time and simulation throughput.
+    private static String summarize(List<Result> results, long elapsedNanos, int threads, String policy, WorldConfig config) {
+        int n = results.size();
+        int[] scores = new int[n];
+        long[] survival = new long[n];
+        long totalTicks = 0;
+        long busyNanos = 0;
+        int gameOvers = 0;
+        for (int i = 0; i < n; i++) {
+            Result result = results.get(i);
+            scores[i] = result.score;
+            survival[i] = result.ticks;
+            totalTicks += result.ticks;
+            busyNanos += result.nanos;
+            if (result.gameOver) gameOvers++;
+        }
+        Arrays.sort(scores);
+        Arrays.sort(survival);
+
+        double seconds = elapsedNanos / 1e9;
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%d matches on %d threads, policy %s%n", n, threads, policy));
+        text.append(String.format("config:   %s%n", config));
+        if (n == 0) return text.toString();
+        int tickRate = config.getTickRate();
+        text.append(String.format("score:    mean %.1f, min %d, p50 %d, p90 %d, max %d%n", (double) sum(scores) / n,
+                scores[0], scores[n / 2], scores[Math.min(n - 1, n * 9 / 10)], scores[n - 1]));
+        text.append(String.format("survival: mean %.1f s, min %.1f s, p50 %.1f s, max %.1f s (%d of %d ended in game over)%n",
+                (double) totalTicks / n / tickRate, (double) survival[0] / tickRate,
+                (double) survival[n / 2] / tickRate, (double) survival[n - 1] / tickRate, gameOvers, n));
+        text.append(String.format("ticks:    %d in %.2f s, %.0f ticks/s overall, %.0f ticks/s per thread%n",
+                totalTicks, seconds, totalTicks / seconds, totalTicks / (busyNanos / 1e9)));
+        return text.toString();
+    }
+
+    // Writes one CSV row per match.
+    private static void writeCsv(String file, List<Result> results, int tickRate) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(file)))) {
+            out.println("seed,score,ticks,survival_s,game_over,ticks_per_s");
+            for (Result result : results) {
+                out.printf("%d,%d,%d,%.2f,%b,%.0f%n", result.seed, result.score, result.ticks, (double) result.ticks / tickRate,
+                        result.gameOver, result.ticks / (result.nanos / 1e9));
+            }
+        }
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+
+    private static long sum(int[] values) {
+        long total = 0;
+        for (int value : values) total += value;
+        return total;
+    }
+}
@@ -1,99 +1,40 @@
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.animation.AnimationTimer;
-import javafx.scene.Node;
 
-// The Bullet class represents a projectile fired in a specific direction.
-public class Bullet extends ImageView {
+// The Bullet class renders a projectile fired by the player.
+// Instances are pooled by GameManager and rebound to a new bullet id for every shot.
+public class Bullet extends ImageView implements GameObject {
     // Fields
-    private static final int SPEED = 5;
-    private AnimationTimer timer;
-    private boolean paused = false;
-
-    // Constructs a Bullet object at the given (x, y) position, traveling in the specified direction.
-    public Bullet(double x, double y, String direction, GameManager gameManager) {
-        Image bulletImage = new Image("file:assets/bullet.png");
-        setImage(bulletImage);
-        setFitWidth(10);
-        setFitHeight(13);
-        setTranslateX(x);
-        setTranslateY(y);
-
-        int xVelocity = 0;
-        int yVelocity = 0;
-        int rotationAngle = 0;
-
-        // Determine velocity vector and rotation angle based on direction
-        switch (direction) {
-            case "UP":
-                yVelocity = -1;
-                rotationAngle = 270;
-                break;
-            case "DOWN":
-                yVelocity = 1;
-                rotationAngle = 90;
-                break;
-            case "LEFT":
-                xVelocity = -1;
-                rotationAngle = 180;
-                break;
-            case "RIGHT":
-                xVelocity = 1;
-                rotationAngle = 0;
-                break;
-        }
-
-        final int finalXVelocity = xVelocity;
-        final int finalYVelocity = yVelocity;
-        setRotate(rotationAngle);
-
-        // Add the bullet to the game scene
-        gameManager.getChildren().add(this);
-
-        // Timer that moves the bullet each frame
-        timer = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                if (paused){
-                    return; // Do not update if the game is paused
-                }
-
-                // Update bullet's position
-                setTranslateX(getTranslateX() + finalXVelocity * SPEED);
-                setTranslateY(getTranslateY() + finalYVelocity * SPEED);
-
-                // Remove bullet if it goes outside the game area
-                if (getTranslateX() < 0 || getTranslateX() > 800 || getTranslateY() < 0 || getTranslateY() > 700) {
-                    stop();
-                    gameManager.getChildren().remove(Bullet.this);
-                    return;
-                }
+    private EntityStore store;
+    private int bullet = -1;
+
+    // Constructs a hidden, unbound view of a player bullet.
+    public Bullet() {
+        setImage(Assets.get(Assets.BULLET));
+        setFitWidth(EntityStore.BULLET_WIDTH);
+        setFitHeight(EntityStore.BULLET_HEIGHT);
+        setVisible(false);
+    }
 
-                // Check for collision with Walls
-                for (Node node : gameManager.getChildren()) {
-                    if (node instanceof Wall && getBoundsInParent().intersects(node.getBoundsInParent())) {
-                        stop();
-                        new SmallExplosion(getTranslateX(), getTranslateY(), gameManager);
-                        gameManager.getChildren().remove(Bullet.this);
-                        return;
-                    }
+    // Binds the view to a freshly fired bullet and shows it.
+    public void show(EntityStore store, int bullet) {
+        this.store = store;
+        this.bullet = bullet;
+        setRotate(Direction.rotation(store.getDirection(bullet)));
+        sync(1);
+        setVisible(true);
+    }
 
-                    // Check for collision with Enemies
-                    if (node instanceof Enemy && getBoundsInParent().intersects(node.getBoundsInParent())) {
-                        stop();
-                        ((GameObject) node).destroy(); // Remove or damage the enemy
-                        gameManager.addScore(1);        // Increment score
-                        gameManager.getChildren().remove(Bullet.this); // Remove bullet
-                        return;
-                    }
-                }
-            }
-        };
-        timer.start(); // Start bullet movement
+    // Hides the view and releases the bullet it was showing.
+    public void hide() {
+        setVisible(false);
+        store = null;
+        bullet = -1;
     }
 
-    // Pauses or resumes bullet movement.
-    public void setPaused(boolean value) {
-        this.paused = value;
+    // Copies the bullet's interpolated position from the simulation.
+    @Override
+    public void sync(double alpha) {
+        setTranslateX(store.getRenderX(bullet, alpha));
+        setTranslateY(store.getRenderY(bullet, alpha));
     }
 }
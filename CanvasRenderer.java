@@ -0,0 +1,80 @@
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import java.util.List;
+
+// The CanvasRenderer class is the immediate-mode alternative to one ImageView per entity.
+// Every frame it redraws all tanks, bullets and explosions from the World onto a single canvas,
+// so the scene graph stays the same size no matter how many entities are alive.
+public class CanvasRenderer extends Canvas {
+    // Fields
+    private final GraphicsContext gc;
+    private final Image playerSprite1 = Assets.get(Assets.PLAYER_TANK_1);
+    private final Image playerSprite2 = Assets.get(Assets.PLAYER_TANK_2);
+    private final Image enemySprite1 = Assets.get(Assets.ENEMY_TANK_1);
+    private final Image enemySprite2 = Assets.get(Assets.ENEMY_TANK_2);
+    private final Image bulletImage = Assets.get(Assets.BULLET);
+    private final Image explosionImage = Assets.get(Assets.EXPLOSION);
+    private final Image smallExplosionImage = Assets.get(Assets.SMALL_EXPLOSION);
+
+    // Creates a transparent canvas the size of the arena.
+    public CanvasRenderer(int width, int height) {
+        super(width, height);
+        gc = getGraphicsContext2D();
+        setMouseTransparent(true);
+    }
+
+    // Clears the canvas and draws every dynamic entity, alpha of the way from its previous position to its latest.
+    public void render(World world, double alpha) {
+        gc.clearRect(0, 0, getWidth(), getHeight());
+
+        EntityStore store = world.getEntities();
+        for (int i = 0; i < store.count(EntityStore.ENEMY); i++) {
+            drawTank(store, store.idAt(EntityStore.ENEMY, i), alpha, enemySprite1, enemySprite2);
+        }
+
+        int player = world.getPlayer();
+        if (player >= 0) drawTank(store, player, alpha, playerSprite1, playerSprite2);
+
+        drawBullets(store, EntityStore.PLAYER_BULLET, alpha);
+        drawBullets(store, EntityStore.ENEMY_BULLET, alpha);
+
+        List<EffectState> effects = world.getEffects();
+        for (int i = 0; i < effects.size(); i++) {
+            EffectState effect = effects.get(i);
+            if (effect.getKind() == EffectState.Kind.EXPLOSION) {
+                gc.drawImage(explosionImage, effect.getX() - 30, effect.getY() - 34, 60, 68);
+            } else {
+                gc.drawImage(smallExplosionImage, effect.getX() - 16, effect.getY() - 16, 32, 32);
+            }
+        }
+    }
+
+    private void drawTank(EntityStore store, int tank, double alpha, Image sprite1, Image sprite2) {
+        Image sprite = store.isSpriteToggled(tank) ? sprite2 : sprite1; // Simulate movement animation
+        drawRotated(sprite, store.getRenderX(tank, alpha), store.getRenderY(tank, alpha), EntityStore.TANK_SIZE, EntityStore.TANK_SIZE,
+                Direction.rotation(store.getDirection(tank)));
+    }
+
+    private void drawBullets(EntityStore store, byte type, double alpha) {
+        for (int i = 0; i < store.count(type); i++) {
+            int bullet = store.idAt(type, i);
+            drawRotated(bulletImage, store.getRenderX(bullet, alpha), store.getRenderY(bullet, alpha),
+                    EntityStore.BULLET_WIDTH, EntityStore.BULLET_HEIGHT, Direction.rotation(store.getDirection(bullet)));
+        }
+    }
+
+    // Draws an image rotated about its center, like ImageView.setRotate does.
+    private void drawRotated(Image image, double x, double y, double width, double height, int rotation) {
+        if (rotation == 0) {
+            gc.drawImage(image, x, y, width, height);
+            return;
+        }
+
+        gc.save();
+        gc.translate(x + width / 2, y + height / 2);
+        gc.rotate(rotation);
+        gc.drawImage(image, -width / 2, -height / 2, width, height);
+        gc.restore();
+    }
+}
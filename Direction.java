@@ -0,0 +1,37 @@
+// The Direction class defines the four axis-aligned headings as byte codes, with lookup tables for their
+// unit steps and sprite rotations, so hot loops never switch on strings or touch enum objects.
+public final class Direction {
+    public static final byte UP = 0;
+    public static final byte DOWN = 1;
+    public static final byte LEFT = 2;
+    public static final byte RIGHT = 3;
+    public static final int COUNT = 4;
+    public static final byte NONE = -1; // No heading, e.g. a flow-field cell without a path
+
+    private static final int[] DX = {0, 0, -1, 1};
+    private static final int[] DY = {-1, 1, 0, 0};
+    private static final int[] ROTATION = {270, 90, 180, 0}; // The sprites face right at 0
+
+    private Direction() {
+    }
+
+    // Returns the horizontal unit step (-1, 0 or 1).
+    public static int dx(byte direction) {
+        return DX[direction];
+    }
+
+    // Returns the vertical unit step (-1, 0 or 1).
+    public static int dy(byte direction) {
+        return DY[direction];
+    }
+
+    // Returns the sprite rotation in degrees.
+    public static int rotation(byte direction) {
+        return ROTATION[direction];
+    }
+
+    // Returns true for UP and DOWN.
+    public static boolean isVertical(byte direction) {
+        return direction <= DOWN;
+    }
+}
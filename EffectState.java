@@ -0,0 +1,45 @@
+// The EffectState class holds a short-lived explosion effect and its remaining lifetime.
+public class EffectState {
+    // The kinds of explosion the simulation can produce.
+    public enum Kind {
+        EXPLOSION(0.5),
+        SMALL_EXPLOSION(0.3);
+
+        private final double lifetimeSeconds;
+
+        Kind(double lifetimeSeconds) {
+            this.lifetimeSeconds = lifetimeSeconds;
+        }
+
+        // Returns how many ticks the effect lasts at the given tick rate.
+        public int getLifetimeTicks(int ticksPerSecond) {
+            return Math.max(1, (int) Math.round(lifetimeSeconds * ticksPerSecond));
+        }
+    }
+
+    // Fields
+    private Kind kind = Kind.EXPLOSION;
+    private double x;
+    private double y;
+    int ticksLeft;
+
+    // (Re)initializes a pooled effect of the given kind centered on (x, y), lasting lifetimeTicks ticks.
+    void init(Kind kind, double x, double y, int lifetimeTicks) {
+        this.kind = kind;
+        this.x = x;
+        this.y = y;
+        this.ticksLeft = lifetimeTicks;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+}
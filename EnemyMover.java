@@ -0,0 +1,132 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// The EnemyMover class plans one tick of enemy movement, splitting large enemy counts across a ForkJoinPool.
+// Workers only read the entity store, the wall grid, which never changes after construction, and the flow
+// field, which World updates before planning; each writes its enemies' plans into their own slots.
+// Wandering enemies step straight ahead, hunting ones step the way the flow field points. World then applies
+// the plans one by one in list order, so the outcome (including every random draw) is the same however many
+// threads did the planning.
+public class EnemyMover {
+    // Below this many enemies, forking costs more than it saves
+    public static final int PARALLEL_THRESHOLD = 1024;
+    private static final int CHUNK_SIZE = 256;
+
+    // Fields
+    private final WallGrid walls;
+    private final FlowField field;
+    private final ForkJoinPool pool;
+    private EntityStore store;
+    private double[] nextX = new double[64];
+    private double[] nextY = new double[64];
+    private byte[] nextDirection = new byte[64];
+    private boolean[] clear = new boolean[64]; // True when the planned step does not run into a wall
+
+    // Creates a mover that checks steps against the given walls and steers hunters by the given field,
+    // forking onto the given pool.
+    public EnemyMover(WallGrid walls, FlowField field, ForkJoinPool pool) {
+        this.walls = walls;
+        this.field = field;
+        this.pool = pool;
+    }
+
+    // Plans the next step of every live enemy; plan i belongs to store.idAt(ENEMY, i).
+    public void plan(EntityStore entities) {
+        int count = entities.count(EntityStore.ENEMY);
+        if (count > clear.length) {
+            int capacity = Math.max(count, clear.length * 2);
+            nextX = Arrays.copyOf(nextX, capacity);
+            nextY = Arrays.copyOf(nextY, capacity);
+            nextDirection = Arrays.copyOf(nextDirection, capacity);
+            clear = Arrays.copyOf(clear, capacity);
+        }
+
+        store = entities;
+        if (count >= PARALLEL_THRESHOLD && pool.getParallelism() > 1) {
+            pool.invoke(new PlanTask(0, count));
+        } else {
+            planRange(0, count);
+        }
+        store = null;
+    }
+
+    // Returns true if enemy i can take its planned step; otherwise it has to turn.
+    public boolean isClear(int index) {
+        return clear[index];
+    }
+
+    public double getNextX(int index) {
+        return nextX[index];
+    }
+
+    public double getNextY(int index) {
+        return nextY[index];
+    }
+
+    // Returns the direction enemy i faces for its planned step; hunters may turn.
+    public byte getNextDirection(int index) {
+        return nextDirection[index];
+    }
+
+    private void planRange(int from, int to) {
+        for (int i = from; i < to; i++) {
+            int enemy = store.idAt(EntityStore.ENEMY, i);
+            double x = store.x[enemy];
+            double y = store.y[enemy];
+            if (store.hunting[enemy] && planHunt(i, enemy, x, y)) continue;
+
+            nextDirection[i] = store.direction[enemy];
+            planStep(i, x + store.vx[enemy], y + store.vy[enemy]);
+        }
+    }
+
+    // Plans a step along the flow field; returns false if the field gives no usable way from here.
+    // Between cell corners a tank can be blocked where the corner itself is clear, so it then tries to line
+    // up with the cell's corner first, moving up or left onto it.
+    private boolean planHunt(int i, int enemy, double x, double y) {
+        byte toward = field.directionAt(x, y);
+        if (toward == Direction.NONE) return false;
+
+        double speed = Math.abs(store.vx[enemy]) + Math.abs(store.vy[enemy]);
+        if (planSteer(i, x, y, toward, speed)) return true;
+        if (Direction.isVertical(toward)) {
+            return !field.isColumnAligned(x) && planSteer(i, x, y, Direction.LEFT, speed);
+        }
+        return !field.isRowAligned(y) && planSteer(i, x, y, Direction.UP, speed);
+    }
+
+    private boolean planSteer(int i, double x, double y, byte direction, double speed) {
+        nextDirection[i] = direction;
+        planStep(i, field.advanceX(x, Direction.dx(direction) * speed), field.advanceY(y, Direction.dy(direction) * speed));
+        return clear[i];
+    }
+
+    private void planStep(int i, double x, double y) {
+        nextX[i] = x;
+        nextY[i] = y;
+        clear[i] = !walls.overlaps(x, y, EntityStore.TANK_SIZE, EntityStore.TANK_SIZE);
+    }
+
+    // Splits the enemy range in halves until the pieces are small enough to plan directly.
+    private final class PlanTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int from;
+        private final int to;
+
+        PlanTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                planRange(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new PlanTask(from, middle), new PlanTask(middle, to));
+        }
+    }
+}
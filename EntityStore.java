@@ -0,0 +1,238 @@
+import java.util.Arrays;
+
+// The EntityStore class keeps every tank and bullet in parallel primitive arrays (structure of arrays).
+// Entities are plain int ids. Each type also has a dense list of its live ids, so an update phase is a
+// tight, allocation-free loop over primitive columns instead of a walk over objects.
+public class EntityStore {
+    // Entity types
+    public static final byte PLAYER = 0;
+    public static final byte ENEMY = 1;
+    public static final byte PLAYER_BULLET = 2;
+    public static final byte ENEMY_BULLET = 3;
+    private static final int TYPE_COUNT = 4;
+
+    // Entity sizes
+    public static final int TANK_SIZE = 32;
+    public static final int BULLET_WIDTH = 10;
+    public static final int BULLET_HEIGHT = 13;
+
+    // Per-entity columns, indexed by id
+    double[] x;
+    double[] y;
+    private double[] previousX; // Position before the current tick, for interpolated rendering
+    private double[] previousY;
+    double[] vx;              // Displacement per tick while moving
+    double[] vy;
+    byte[] direction;
+    byte[] type;
+    boolean[] alive;
+    boolean[] spriteToggle;
+    boolean[] hunting;        // Enemies that currently follow the flow field instead of wandering
+    private int[] generation; // Bumped whenever an id is released, so stale handles can be detected
+    private int[] listIndex;  // Position in the type's live list, or -1
+
+    // Per-type dense lists of live ids
+    private final int[][] lists = new int[TYPE_COUNT][];
+    private final int[] counts = new int[TYPE_COUNT];
+
+    // Released ids, reused before new ones are handed out
+    private int[] freeIds;
+    private int freeCount = 0;
+    private int highWater = 0;
+
+    // Creates a store with room for initialCapacity entities; it grows on demand.
+    public EntityStore(int initialCapacity) {
+        x = new double[initialCapacity];
+        y = new double[initialCapacity];
+        previousX = new double[initialCapacity];
+        previousY = new double[initialCapacity];
+        vx = new double[initialCapacity];
+        vy = new double[initialCapacity];
+        direction = new byte[initialCapacity];
+        type = new byte[initialCapacity];
+        alive = new boolean[initialCapacity];
+        spriteToggle = new boolean[initialCapacity];
+        hunting = new boolean[initialCapacity];
+        generation = new int[initialCapacity];
+        listIndex = new int[initialCapacity];
+        freeIds = new int[initialCapacity];
+        for (int t = 0; t < TYPE_COUNT; t++) {
+            lists[t] = new int[16];
+        }
+        Arrays.fill(listIndex, -1);
+    }
+
+    // Allocates an entity that is not yet alive; call activate() to add it to its type's live list.
+    public int create(byte entityType, double startX, double startY, byte startDirection, double speed) {
+        int id = freeCount > 0 ? freeIds[--freeCount] : highWater++;
+        if (id == x.length) grow();
+
+        type[id] = entityType;
+        x[id] = startX;
+        y[id] = startY;
+        previousX[id] = startX;
+        previousY[id] = startY;
+        spriteToggle[id] = false;
+        hunting[id] = false;
+        alive[id] = false;
+        setDirection(id, startDirection, speed);
+        return id;
+    }
+
+    // Marks an entity alive and appends it to its type's live list.
+    public void activate(int id) {
+        int t = type[id];
+        if (counts[t] == lists[t].length) lists[t] = Arrays.copyOf(lists[t], counts[t] * 2);
+
+        alive[id] = true;
+        listIndex[id] = counts[t];
+        lists[t][counts[t]++] = id;
+    }
+
+    // Marks an entity dead and swap-removes it from its type's live list; the id stays allocated.
+    public void deactivate(int id) {
+        if (listIndex[id] < 0) return;
+
+        int t = type[id];
+        int index = listIndex[id];
+        int last = lists[t][--counts[t]];
+        lists[t][index] = last;
+        listIndex[last] = index;
+        listIndex[id] = -1;
+        alive[id] = false;
+    }
+
+    // Deactivates an entity and returns its id for reuse.
+    public void release(int id) {
+        deactivate(id);
+        generation[id]++;
+        if (freeCount == freeIds.length) freeIds = Arrays.copyOf(freeIds, freeIds.length * 2);
+        freeIds[freeCount++] = id;
+    }
+
+    // Releases every entity at once.
+    public void clear() {
+        for (int id = 0; id < highWater; id++) {
+            alive[id] = false;
+            listIndex[id] = -1;
+            generation[id]++;
+        }
+        Arrays.fill(counts, 0);
+        freeCount = 0;
+        highWater = 0;
+    }
+
+    // Points an entity in a new direction and sets its per-tick velocity for the given speed.
+    public void setDirection(int id, byte newDirection, double speed) {
+        direction[id] = newDirection;
+        vx[id] = Direction.dx(newDirection) * speed;
+        vy[id] = Direction.dy(newDirection) * speed;
+    }
+
+    // Records every live entity's position as its previous one; World calls this at the start of each tick.
+    public void savePositions() {
+        for (int t = 0; t < TYPE_COUNT; t++) {
+            int[] ids = lists[t];
+            for (int i = 0; i < counts[t]; i++) {
+                int id = ids[i];
+                previousX[id] = x[id];
+                previousY[id] = y[id];
+            }
+        }
+    }
+
+    // Returns the number of live entities of a type.
+    public int count(byte entityType) {
+        return counts[entityType];
+    }
+
+    // Returns the id of the index-th live entity of a type; the order changes as entities are removed.
+    public int idAt(byte entityType, int index) {
+        return lists[entityType][index];
+    }
+
+    // Returns the generation of an id, for handles that may outlive the entity.
+    public int generation(int id) {
+        return generation[id];
+    }
+
+    // Returns true if the handle (id, generation) still refers to the same entity.
+    public boolean isCurrent(int id, int handleGeneration) {
+        return generation[id] == handleGeneration;
+    }
+
+    // Returns the number of ids the columns currently have room for.
+    public int capacity() {
+        return x.length;
+    }
+
+    // Read accessors for renderers
+    public double getX(int id) {
+        return x[id];
+    }
+
+    public double getY(int id) {
+        return y[id];
+    }
+
+    // Returns the position blended between the previous tick (alpha 0) and the current one (alpha 1).
+    public double getRenderX(int id, double alpha) {
+        return previousX[id] + (x[id] - previousX[id]) * alpha;
+    }
+
+    public double getRenderY(int id, double alpha) {
+        return previousY[id] + (y[id] - previousY[id]) * alpha;
+    }
+
+    public byte getDirection(int id) {
+        return direction[id];
+    }
+
+    public byte getType(int id) {
+        return type[id];
+    }
+
+    public boolean isAlive(int id) {
+        return alive[id];
+    }
+
+    // Returns which of the two track sprites a tank should show.
+    public boolean isSpriteToggled(int id) {
+        return spriteToggle[id];
+    }
+
+    // Bullet sprites rotate about their center, so vertical bullets are wider than they are tall.
+    double bulletMinX(int id) {
+        return Direction.isVertical(direction[id]) ? x[id] + BULLET_WIDTH / 2.0 - BULLET_HEIGHT / 2.0 : x[id];
+    }
+
+    double bulletMinY(int id) {
+        return Direction.isVertical(direction[id]) ? y[id] + BULLET_HEIGHT / 2.0 - BULLET_WIDTH / 2.0 : y[id];
+    }
+
+    double bulletWidth(int id) {
+        return Direction.isVertical(direction[id]) ? BULLET_HEIGHT : BULLET_WIDTH;
+    }
+
+    double bulletHeight(int id) {
+        return Direction.isVertical(direction[id]) ? BULLET_WIDTH : BULLET_HEIGHT;
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        direction = Arrays.copyOf(direction, capacity);
+        type = Arrays.copyOf(type, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+        spriteToggle = Arrays.copyOf(spriteToggle, capacity);
+        hunting = Arrays.copyOf(hunting, capacity);
+        generation = Arrays.copyOf(generation, capacity);
+        listIndex = Arrays.copyOf(listIndex, capacity);
+        Arrays.fill(listIndex, capacity / 2, capacity, -1);
+    }
+}
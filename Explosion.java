@@ -1,44 +1,33 @@
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.animation.PauseTransition;
-import javafx.util.Duration;
 
 // The Explosion class represents an effect shown when a game object is destroyed.
-public class Explosion extends ImageView {
-    private PauseTransition transition; // Used to remove the explosion after a delay
+// Instances are pooled by GameManager and reused for every explosion.
+public class Explosion extends ImageView implements GameObject {
 
-    // Constructs an Explosion effect at the specified (x, y) location.
-    public Explosion(double x, double y, GameManager gameManager) {
-        // Load and configure the explosion image
-        Image explosionImage = new Image("file:assets/explosion.png");
-        setImage(explosionImage);
+    // Constructs a hidden explosion view.
+    public Explosion() {
+        // Configure the shared explosion image
+        setImage(Assets.get(Assets.EXPLOSION));
         setFitWidth(60);
         setFitHeight(68);
+        setVisible(false);
+    }
 
+    // Shows the explosion for an effect; World decides when it expires.
+    public void show(EffectState effect) {
         // Position explosion centered on (x, y)
-        setTranslateX(x - 30); // 60 / 2
-        setTranslateY(y - 34); // 68 / 2
-
-        // Add to game scene
-        gameManager.getChildren().add(this);
-
-        // Remove explosion after 0.5 seconds
-        transition = new PauseTransition(Duration.seconds(0.5));
-        transition.setOnFinished(e -> gameManager.getChildren().remove(this));
-        transition.play();
+        setTranslateX(effect.getX() - 30); // 60 / 2
+        setTranslateY(effect.getY() - 34); // 68 / 2
+        setVisible(true);
     }
 
-    // Pauses the explosion timer
-    public void pause() {
-        if (transition != null) {
-            transition.pause();
-        }
+    // Hides the explosion so the view can be reused.
+    public void hide() {
+        setVisible(false);
     }
 
-    // Resumes the explosion timer
-    public void resume() {
-        if (transition != null) {
-            transition.play();
-        }
+    // Explosions do not move, so there is nothing to update.
+    @Override
+    public void sync(double alpha) {
     }
 }
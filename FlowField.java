@@ -0,0 +1,132 @@
+import java.util.Arrays;
+
+// The FlowField class points every open cell of a lattice over the arena one step along a shortest path to
+// the player. A cell is open when a tank whose top-left corner sits on the cell's corner clears every wall;
+// neighbouring open cells can always be travelled between in a straight line, since tanks are larger than
+// a cell. The lattice is independent of the wall grid's cells, which can be much finer in offset layouts.
+// One breadth-first search refills the field whenever the player enters a new cell, and an enemy steers
+// by reading the cell it is in, so pursuit costs the same per tank for 10 or 10,000 tanks.
+public class FlowField {
+    // Fields
+    private final int cellWidth;
+    private final int cellHeight;
+    private final int columns;
+    private final int rows;
+    private final boolean[] open;
+    private final byte[] flow;     // Direction to move from each cell, or Direction.NONE
+    private final int[] distance;  // Steps from each cell to the target, or -1; search scratch
+    private final int[] queue;
+    private int targetCell = -1;
+    private int searches = 0;
+
+    // Lays a cellWidth x cellHeight lattice over a width x height arena and precomputes which cells a tank
+    // fits in; the walls never change afterwards. Cells must be smaller than a tank.
+    public FlowField(WallGrid walls, int width, int height, int cellWidth, int cellHeight) {
+        if (cellWidth >= EntityStore.TANK_SIZE || cellHeight >= EntityStore.TANK_SIZE) {
+            throw new IllegalArgumentException("Cells must be smaller than a tank: " + cellWidth + "x" + cellHeight);
+        }
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        columns = width / cellWidth + 1;
+        rows = height / cellHeight + 1;
+        open = new boolean[columns * rows];
+        flow = new byte[columns * rows];
+        distance = new int[columns * rows];
+        queue = new int[columns * rows];
+        Arrays.fill(flow, Direction.NONE);
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                open[r * columns + c] = !walls.overlaps((double) c * cellWidth, (double) r * cellHeight,
+                        EntityStore.TANK_SIZE, EntityStore.TANK_SIZE);
+            }
+        }
+    }
+
+    // Retargets the field on a tank at (x, y); searches again only if it has moved to another cell.
+    // The open corners of the tank's cell and its right and lower neighbours all count as the target.
+    public void update(double x, double y) {
+        int c0 = column(x);
+        int r0 = row(y);
+        int cell = r0 * columns + c0;
+        if (cell == targetCell) return;
+        targetCell = cell;
+        searches++;
+
+        Arrays.fill(distance, -1);
+        Arrays.fill(flow, Direction.NONE);
+        int head = 0;
+        int tail = 0;
+        for (int r = r0; r <= Math.min(r0 + 1, rows - 1); r++) {
+            for (int c = c0; c <= Math.min(c0 + 1, columns - 1); c++) {
+                int target = r * columns + c;
+                if (!open[target]) continue;
+                distance[target] = 0;
+                queue[tail++] = target;
+            }
+        }
+
+        // Each newly reached cell flows back towards the cell it was reached from
+        while (head < tail) {
+            int current = queue[head++];
+            int c = current % columns;
+            int r = current / columns;
+            int next = distance[current] + 1;
+            if (r > 0) tail = visit(current - columns, Direction.DOWN, next, tail);
+            if (r < rows - 1) tail = visit(current + columns, Direction.UP, next, tail);
+            if (c > 0) tail = visit(current - 1, Direction.RIGHT, next, tail);
+            if (c < columns - 1) tail = visit(current + 1, Direction.LEFT, next, tail);
+        }
+    }
+
+    private int visit(int cell, byte toward, int steps, int tail) {
+        if (!open[cell] || distance[cell] >= 0) return tail;
+        distance[cell] = steps;
+        flow[cell] = toward;
+        queue[tail] = cell;
+        return tail + 1;
+    }
+
+    // Returns the direction to move from the cell containing (x, y), or Direction.NONE when that cell has
+    // no path to the target or is the target itself.
+    public byte directionAt(double x, double y) {
+        return flow[row(y) * columns + column(x)];
+    }
+
+    // Returns true if x lies exactly on a cell column line, where vertical flow can be followed safely.
+    public boolean isColumnAligned(double x) {
+        return x == column(x) * (double) cellWidth;
+    }
+
+    public boolean isRowAligned(double y) {
+        return y == row(y) * (double) cellHeight;
+    }
+
+    // Moves a coordinate by delta, stopping on the first cell line crossed, so steered tanks land on lines.
+    public double advanceX(double x, double delta) {
+        return advance(x, delta, cellWidth);
+    }
+
+    public double advanceY(double y, double delta) {
+        return advance(y, delta, cellHeight);
+    }
+
+    private static double advance(double position, double delta, int cellSize) {
+        if (delta > 0) return Math.min(position + delta, (Math.floor(position / cellSize) + 1) * cellSize);
+        if (delta < 0) return Math.max(position + delta, (Math.ceil(position / cellSize) - 1) * cellSize);
+        return position;
+    }
+
+    // Returns how many times the field has been searched, for profiling.
+    public int getSearchCount() {
+        return searches;
+    }
+
+    private int column(double x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor(x / cellWidth)));
+    }
+
+    private int row(double y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / cellHeight)));
+    }
+}
@@ -0,0 +1,81 @@
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+// The FrameProfiler class keeps one Histogram per phase of a frame, so stutter can be traced to the phase
+// that caused it. World times its tick phases when a profiler is attached; GameManager adds rendering
+// and the full frame interval.
+public class FrameProfiler {
+    // Phases
+    public static final int INPUT = 0;     // Applying player input: movement and firing
+    public static final int ENEMIES = 1;   // Enemy movement, direction changes and firing timers
+    public static final int BULLETS = 2;   // Enemy hash rebuild, bullet movement and collisions
+    public static final int EFFECTS = 3;   // Explosion expiry
+    public static final int SPAWNS = 4;    // Player respawn
+    public static final int TICK = 5;      // The whole simulation tick
+    public static final int RENDER = 6;    // Syncing views or drawing the canvas, and the HUD
+    public static final int FRAME = 7;     // Time between frames, as the display sees it
+    private static final String[] NAMES = {"input", "enemies", "bullets", "effects", "spawns", "tick", "render", "frame"};
+
+    // Fields
+    private final Histogram[] histograms = new Histogram[NAMES.length];
+
+    // Creates a profiler with empty histograms.
+    public FrameProfiler() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new Histogram();
+        }
+    }
+
+    // Records how long one occurrence of a phase took.
+    public void record(int phase, long nanos) {
+        histograms[phase].record(nanos);
+    }
+
+    // Returns the short name of a phase, as used in reports.
+    public static String phaseName(int phase) {
+        return NAMES[phase];
+    }
+
+    public Histogram get(int phase) {
+        return histograms[phase];
+    }
+
+    // Clears every histogram.
+    public void reset() {
+        for (Histogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+    // Returns a table of count, p50, p99 and max per phase, in microseconds.
+    public String report() {
+        StringBuilder text = new StringBuilder(String.format("%-8s %8s %9s %9s %9s%n", "phase", "count", "p50 us", "p99 us", "max us"));
+        for (int phase = 0; phase < histograms.length; phase++) {
+            Histogram histogram = histograms[phase];
+            if (histogram.getCount() == 0) continue;
+            text.append(String.format("%-8s %8d %9.1f %9.1f %9.1f%n", NAMES[phase], histogram.getCount(),
+                    histogram.percentile(50) / 1e3, histogram.percentile(99) / 1e3, histogram.getMax() / 1e3));
+        }
+        return text.toString();
+    }
+
+    // Writes the report followed by every non-empty bucket of every phase, for offline analysis.
+    public void dump(Path file, String description) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println("# Frame profile, " + LocalDateTime.now() + ", " + description);
+            out.print(report());
+            out.println();
+            out.println("# phase, bucket lower bound (ns), count");
+            for (int phase = 0; phase < histograms.length; phase++) {
+                Histogram histogram = histograms[phase];
+                for (int bucket = 0; bucket < histogram.getBucketCount(); bucket++) {
+                    long count = histogram.getBucketValue(bucket);
+                    if (count > 0) out.println(NAMES[phase] + ", " + Histogram.lowerBound(bucket) + ", " + count);
+                }
+            }
+        }
+    }
+}
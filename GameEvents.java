@@ -0,0 +1,158 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// The GameEvents class defines the game's own JDK Flight Recorder events, so a recording can line GC pauses
+// and allocation spikes up with spawns, hits, explosions, deaths and slow frame phases.
+// The static helpers check whether the event is enabled before building it, so they cost next to nothing
+// when no recording is running. Record with: java -XX:StartFlightRecording=filename=game.jfr ...
+public final class GameEvents {
+    private static final EventType SPAWN = EventType.getEventType(EnemySpawn.class);
+    private static final EventType HIT = EventType.getEventType(BulletHit.class);
+    private static final EventType EXPLOSION = EventType.getEventType(ExplosionEvent.class);
+    private static final EventType DEATH = EventType.getEventType(PlayerDeath.class);
+    private static final EventType PHASE = EventType.getEventType(Phase.class);
+
+    private GameEvents() {
+    }
+
+    @Name("tank.EnemySpawn")
+    @Label("Enemy Spawn")
+    @Category({"Tank Game", "World"})
+    @Description("An attempt to place an enemy; SpawnIndex draws a free slot directly, so there are no rejected tries")
+    @StackTrace(false)
+    static final class EnemySpawn extends Event {
+        @Label("Free Slots")
+        int freeSlots;
+        @Label("Placed")
+        boolean placed;
+        @Label("Initial Batch")
+        boolean initial;
+        @Label("Tick")
+        long tick;
+    }
+
+    @Name("tank.BulletHit")
+    @Label("Bullet Hit")
+    @Category({"Tank Game", "World"})
+    @StackTrace(false)
+    static final class BulletHit extends Event {
+        @Label("Target")
+        String target;
+        @Label("Enemy Bullet")
+        boolean enemyBullet;
+        @Label("X")
+        double x;
+        @Label("Y")
+        double y;
+        @Label("Tick")
+        long tick;
+    }
+
+    @Name("tank.Explosion")
+    @Label("Explosion")
+    @Category({"Tank Game", "World"})
+    @StackTrace(false)
+    static final class ExplosionEvent extends Event {
+        @Label("Kind")
+        String kind;
+        @Label("X")
+        double x;
+        @Label("Y")
+        double y;
+        @Label("Tick")
+        long tick;
+    }
+
+    @Name("tank.PlayerDeath")
+    @Label("Player Death")
+    @Category({"Tank Game", "World"})
+    @StackTrace(false)
+    static final class PlayerDeath extends Event {
+        @Label("Lives Left")
+        int livesLeft;
+        @Label("Score")
+        int score;
+        @Label("X")
+        double x;
+        @Label("Y")
+        double y;
+        @Label("Tick")
+        long tick;
+    }
+
+    @Name("tank.Phase")
+    @Label("Frame Phase")
+    @Category({"Tank Game", "Frame"})
+    @Description("One phase of a frame; its duration is the event duration")
+    @StackTrace(false)
+    static final class Phase extends Event {
+        @Label("Phase")
+        String phase;
+        @Label("Tick")
+        long tick;
+    }
+
+    static void enemySpawn(int freeSlots, boolean placed, boolean initial, long tick) {
+        if (!SPAWN.isEnabled()) return;
+        EnemySpawn event = new EnemySpawn();
+        event.freeSlots = freeSlots;
+        event.placed = placed;
+        event.initial = initial;
+        event.tick = tick;
+        event.commit();
+    }
+
+    static void bulletHit(String target, boolean enemyBullet, double x, double y, long tick) {
+        if (!HIT.isEnabled()) return;
+        BulletHit event = new BulletHit();
+        event.target = target;
+        event.enemyBullet = enemyBullet;
+        event.x = x;
+        event.y = y;
+        event.tick = tick;
+        event.commit();
+    }
+
+    static void explosion(EffectState.Kind kind, double x, double y, long tick) {
+        if (!EXPLOSION.isEnabled()) return;
+        ExplosionEvent event = new ExplosionEvent();
+        event.kind = kind.name();
+        event.x = x;
+        event.y = y;
+        event.tick = tick;
+        event.commit();
+    }
+
+    static void playerDeath(int livesLeft, int score, double x, double y, long tick) {
+        if (!DEATH.isEnabled()) return;
+        PlayerDeath event = new PlayerDeath();
+        event.livesLeft = livesLeft;
+        event.score = score;
+        event.x = x;
+        event.y = y;
+        event.tick = tick;
+        event.commit();
+    }
+
+    // Starts timing a frame phase; returns null when phase events are not being recorded.
+    static Phase beginPhase() {
+        if (!PHASE.isEnabled()) return null;
+        Phase event = new Phase();
+        event.begin();
+        return event;
+    }
+
+    // Ends a phase started with beginPhase(); a null phase is ignored.
+    static void endPhase(Phase event, int phase, long tick) {
+        if (event == null) return;
+        event.end();
+        event.phase = FrameProfiler.phaseName(phase);
+        event.tick = tick;
+        event.commit();
+    }
+}
@@ -1,41 +1,87 @@
 import javafx.scene.layout.Pane;
 import javafx.scene.input.KeyCode;
 import javafx.scene.Scene;
-import javafx.scene.image.ImageView;
 import javafx.scene.text.Text;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.Node;
+import javafx.scene.Group;
 import javafx.animation.AnimationTimer;
-import javafx.animation.PauseTransition;
-import javafx.util.Duration;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 
 // The GameManager class is the central controller of the game.
-public class GameManager extends Pane {
+// It feeds keyboard input into the World simulation and keeps a JavaFX view for every simulated entity.
+public class GameManager extends Pane implements WorldListener {
+    private static final long MAX_FRAME_NANOS = 250_000_000L; // Longer gaps (a stall, a debugger) are not caught up
+    private static final int MAX_TICKS_PER_FRAME = 8;        // Beyond this the game slows down instead of spiralling
+
     // Fields
-    private Player player;
-    private int score = 0;
-    private int lives = 3;
+    private final boolean canvasRendering;
+    private final WorldConfig config;
+    private World world;
+    private CanvasRenderer canvasRenderer;
     private Text scoreText;
     private Text livesText;
-    private AnimationTimer inputHandler;
+    private Text statsText;   // Stress mode only: frame rate and tick cost
+    private Text profileText; // Per-phase frame times, toggled with F3
+    private final FrameProfiler profiler = new FrameProfiler();
+    private long lastFrameTime = 0;
+    private long tickNanos;          // Length of one simulation tick
+    private long unsimulatedNanos = 0; // Frame time not yet covered by whole ticks
+    private int framesSinceProfileUpdate = 0;
+    private int shownScore = 0;
+    private int shownLives = 0;
+    private long statsWindowStart = 0;
+    private int statsFrames = 0;
+    private int statsTicks = 0;
+    private long statsTickNanos = 0;
+    private AnimationTimer gameLoop;
     private Pane gameOverOverlay;
     private Pane pauseOverlay;
     private boolean isGameOver = false;
     private boolean isPaused = false;
-    private final int MAX_ENEMIES = 10;
-    private List<Enemy> activeEnemies = new ArrayList<>();
+    // Per-type registries of live views, kept in step with WorldListener events
+    // Tank and bullet views are indexed by entity id, effects by their pooled state object
+    private GameObject[] entityViews = new GameObject[64];
+    private Map<EffectState, GameObject> effectViews = new IdentityHashMap<>();
+    // Fixed layers, bottom to top, so a view's stacking does not depend on when it was created
+    private final Group tankLayer = new Group();
+    private final Group bulletLayer = new Group();
+    private final Group effectLayer = new Group();
+    private Pool<Bullet> bulletViewPool;
+    private Pool<EnemyBullet> enemyBulletViewPool;
+    private Pool<Explosion> explosionViewPool;
+    private Pool<SmallExplosion> smallExplosionViewPool;
     private Set<KeyCode> activeKeys = new HashSet<>();
-    private List<PauseTransition> pendingEnemySpawns = new ArrayList<>();
-    private PauseTransition pendingPlayerRespawn = null;
+    private InputRecorder recorder;   // Optional; saves each match's inputs for headless replay
 
     // Constructor for GameManager.
     public GameManager() {
+        this(false);
+    }
+
+    // Creates a GameManager that draws entities either as ImageView nodes or onto one canvas.
+    public GameManager(boolean canvasRendering) {
+        this(canvasRendering, WorldConfig.standard());
+    }
+
+    // Creates a GameManager for the given world configuration; stress configurations also report performance.
+    public GameManager(boolean canvasRendering, WorldConfig config) {
+        this.canvasRendering = canvasRendering;
+        this.config = config;
         this.setStyle("-fx-background-color: black;");
     }
 
-    // Starts the game by spawning player/enemies, and setting up input.
+    // Records every match played from now on.
+    public void setRecorder(InputRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    // Starts the game by creating the world, its views, and setting up input.
+    // Everything built here outlives a match; restarts only reset the world and the HUD values.
     public void startGame(Scene scene) {
         // Initialize score and lives display
         scoreText = new Text("Score: 0");
@@ -51,241 +97,300 @@ public class GameManager extends Pane {
         livesText.setTranslateY(55);
 
         this.getChildren().addAll(scoreText, livesText);
-        this.setPrefSize(800, 700);
 
-        // Spawn player
-        player = new Player(400, 500);
-        this.getChildren().add(player);
+        // Frame-time overlay beside the score and lives, hidden until F3 is pressed
+        profileText = new Text("");
+        profileText.setFont(Font.font("Monospaced", 13));
+        profileText.setFill(Color.WHITE);
+        profileText.setTranslateX(170);
+        profileText.setTranslateY(30);
+        profileText.setVisible(false);
+        this.getChildren().add(profileText);
+
+        if (config.isStress()) {
+            statsText = new Text("");
+            statsText.setFont(new Font(20));
+            statsText.setFill(Color.WHITE);
+            statsText.setTranslateX(24);
+            statsText.setTranslateY(75);
+            this.getChildren().add(statsText);
+        }
 
-        // Create wall boundaries and obstacles
-        createWalls();
+        // Create the simulation and bake its walls into one background layer
+        world = new World(config);
+        world.setProfiler(profiler);
+        tickNanos = 1_000_000_000L / world.getTicksPerSecond();
+        this.setPrefSize(world.getWidth(), world.getHeight());
+        this.getChildren().add(new WallLayer(world));
+
+        if (canvasRendering) {
+            // Immediate mode: one canvas redrawn from the world every frame, no per-entity nodes
+            canvasRenderer = new CanvasRenderer(world.getWidth(), world.getHeight());
+            this.getChildren().add(canvasRenderer);
+        } else {
+            // Retained mode: one view per entity, created and dropped through WorldListener events
+            world.setListener(this);
+            this.getChildren().addAll(tankLayer, bulletLayer, effectLayer);
+
+            // Pre-size hidden, reusable views for projectiles and effects, drawn above the tanks
+            bulletViewPool = new Pool<>(() -> addPooledView(bulletLayer, new Bullet()), 8);
+            enemyBulletViewPool = new Pool<>(() -> addPooledView(bulletLayer, new EnemyBullet()), 64);
+            explosionViewPool = new Pool<>(() -> addPooledView(effectLayer, new Explosion()), 8);
+            smallExplosionViewPool = new Pool<>(() -> addPooledView(effectLayer, new SmallExplosion()), 32);
+        }
 
-        // Spawn initial enemies
-        spawnInitialEnemies();
+        // Spawn player and initial enemies
+        beginMatch();
 
         // Input handling: key press
         scene.setOnKeyPressed(e -> {
             activeKeys.add(e.getCode());
 
             if (isGameOver) {
-                if (e.getCode() == KeyCode.R) restartGame(scene);
-                else if (e.getCode() == KeyCode.ESCAPE) System.exit(0);
+                if (e.getCode() == KeyCode.R) restartGame();
+                else if (e.getCode() == KeyCode.ESCAPE) exit();
                 return;
             }
 
             if (isPaused) {
                 if (e.getCode() == KeyCode.P) resumeGame();
-                else if (e.getCode() == KeyCode.R) restartGame(scene);
-                else if (e.getCode() == KeyCode.ESCAPE) System.exit(0);
+                else if (e.getCode() == KeyCode.R) restartGame();
+                else if (e.getCode() == KeyCode.ESCAPE) exit();
                 return;
             }
 
             if (e.getCode() == KeyCode.P) pauseGame();
+            else if (e.getCode() == KeyCode.F3) profileText.setVisible(!profileText.isVisible());
+            else if (e.getCode() == KeyCode.F4) dumpProfile();
         });
 
         // Input handling: key release
         scene.setOnKeyReleased(e -> activeKeys.remove(e.getCode()));
 
-        if (inputHandler != null) inputHandler.stop();
-
-        // Per-frame input check
-        inputHandler = new AnimationTimer() {
+        // Fixed-timestep loop: each frame runs as many whole ticks as the elapsed time covers, then renders
+        // the state interpolated by the leftover fraction of a tick, so game speed does not depend on the display
+        gameLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                if (isPaused || isGameOver || player == null) return;
+                if (isPaused || isGameOver) {
+                    lastFrameTime = 0; // Frames resume without counting the pause as one long frame
+                    return;
+                }
+                if (lastFrameTime != 0) {
+                    profiler.record(FrameProfiler.FRAME, now - lastFrameTime);
+                    unsimulatedNanos += Math.min(now - lastFrameTime, MAX_FRAME_NANOS);
+                }
+                lastFrameTime = now;
+
+                int input = readInput();
+                int ticks = 0;
+                long tickStart = System.nanoTime();
+                while (unsimulatedNanos >= tickNanos && !world.isGameOver()) {
+                    world.tick(input);
+                    if (recorder != null) recorder.record(input);
+                    unsimulatedNanos -= tickNanos;
+                    if (++ticks == MAX_TICKS_PER_FRAME) {
+                        unsimulatedNanos = Math.min(unsimulatedNanos, tickNanos - 1);
+                        break;
+                    }
+                }
+                long tickCost = System.nanoTime() - tickStart;
+
+                long renderStart = System.nanoTime();
+                GameEvents.Phase renderEvent = GameEvents.beginPhase();
+                render((double) unsimulatedNanos / tickNanos);
+                GameEvents.endPhase(renderEvent, FrameProfiler.RENDER, world.getTickCount());
+                profiler.record(FrameProfiler.RENDER, System.nanoTime() - renderStart);
+                updateProfileText();
+                if (statsText != null) updateStats(now, ticks, tickCost);
 
-                if (activeKeys.contains(KeyCode.LEFT)) player.move("LEFT");
-                if (activeKeys.contains(KeyCode.RIGHT)) player.move("RIGHT");
-                if (activeKeys.contains(KeyCode.UP)) player.move("UP");
-                if (activeKeys.contains(KeyCode.DOWN)) player.move("DOWN");
-                if (activeKeys.contains(KeyCode.X)) player.fire(GameManager.this);
+                if (world.isGameOver()) gameOver();
             }
         };
-        inputHandler.start();
+        gameLoop.start();
     }
 
-    // Builds the outer and inner wall layout of the game arena.
-    private void createWalls() {
-        // Borders
-        for (int i = 0; i < 800; i += Wall.WIDTH) {
-            this.getChildren().add(new Wall(i, 0));
-            this.getChildren().add(new Wall(i, 700 - Wall.HEIGHT));
-        }
-        for (int i = Wall.HEIGHT; i < 700 - Wall.HEIGHT; i += Wall.HEIGHT) {
-            this.getChildren().add(new Wall(0, i));
-            this.getChildren().add(new Wall(800 - Wall.WIDTH, i));
-        }
+    // Starts a new match in the existing world; reset() drops the views of the previous match through the listener.
+    private void beginMatch() {
+        world.reset();
+        if (recorder != null) recorder.begin(world.getMatchSeed());
+        render(1);
+    }
 
-        // Interior walls (symmetrical design)
-        for (int i = 0; i < 14; i++) {
-            int y = 350 + i * Wall.HEIGHT;
-            this.getChildren().add(new Wall(56, y));
-            this.getChildren().add(new Wall(70, y));
-        }
+    // Packs the held keys into a PlayerInput mask for the next tick.
+    private int readInput() {
+        int input = PlayerInput.NONE;
+        if (activeKeys.contains(KeyCode.LEFT)) input |= PlayerInput.LEFT;
+        if (activeKeys.contains(KeyCode.RIGHT)) input |= PlayerInput.RIGHT;
+        if (activeKeys.contains(KeyCode.UP)) input |= PlayerInput.UP;
+        if (activeKeys.contains(KeyCode.DOWN)) input |= PlayerInput.DOWN;
+        if (activeKeys.contains(KeyCode.X)) input |= PlayerInput.FIRE;
+        return input;
+    }
 
-        for (int i = 0; i < 10; i++) {
-            int y = 414 + i * Wall.HEIGHT;
-            this.getChildren().add(new Wall(140, y));
-            this.getChildren().add(new Wall(154, y));
+    // Draws the simulation state (or copies it onto every view) and refreshes the HUD.
+    // alpha is how far the frame lies between the previous tick (0) and the latest one (1).
+    private void render(double alpha) {
+        if (canvasRendering) {
+            canvasRenderer.render(world, alpha);
+        } else {
+            // Only tanks and bullets move; explosions stay where they were shown
+            EntityStore store = world.getEntities();
+            syncViews(store, EntityStore.PLAYER, alpha);
+            syncViews(store, EntityStore.ENEMY, alpha);
+            syncViews(store, EntityStore.PLAYER_BULLET, alpha);
+            syncViews(store, EntityStore.ENEMY_BULLET, alpha);
         }
+        updateHud();
+    }
 
-        for (int i = 0; i < 14; i++) {
-            int x = 304 + i * Wall.WIDTH;
-            this.getChildren().add(new Wall(x, 350));
+    private void syncViews(EntityStore store, byte type, double alpha) {
+        for (int i = 0; i < store.count(type); i++) {
+            entityViews[store.idAt(type, i)].sync(alpha);
         }
+    }
 
-        for (int i = 0; i < 14; i++) {
-            int y = 350 + i * Wall.HEIGHT;
-            this.getChildren().add(new Wall(730, y));
-            this.getChildren().add(new Wall(716, y));
+    // Updates the score and lives text only when the values change.
+    private void updateHud() {
+        if (world.getScore() != shownScore) {
+            shownScore = world.getScore();
+            scoreText.setText("Score: " + shownScore);
         }
-
-        for (int i = 0; i < 10; i++) {
-            int y = 414 + i * Wall.HEIGHT;
-            this.getChildren().add(new Wall(646, y));
-            this.getChildren().add(new Wall(632, y));
+        if (world.getLives() != shownLives) {
+            shownLives = world.getLives();
+            livesText.setText("Lives: " + shownLives);
         }
     }
 
-    // Spawns a single enemy after a short randomized delay, avoiding overlaps.
-    public void spawnEnemy() {
-        final int maxAttempts = 50;
-        final int cellWidth = Wall.WIDTH;
-        final int cellHeight = Wall.HEIGHT;
-        final int maxX = 800 / cellWidth;
-        final int maxY = (700 / 2) / cellHeight;
-        Random random = new Random();
-        int attempts = 0;
-
-        while (attempts < maxAttempts) {
-            double spawnX = random.nextInt(maxX) * cellWidth;
-            double spawnY = random.nextInt(maxY) * cellHeight;
-            boolean isLocationValid = true;
-
-            // Check for overlaps
-            for (Node node : this.getChildren()) {
-                if (node instanceof Wall || node instanceof Enemy || node instanceof Player) {
-                    double nodeX = node.getTranslateX();
-                    double nodeY = node.getTranslateY();
-                    double nodeWidth = (node instanceof Wall) ? cellWidth : ((ImageView) node).getFitWidth();
-                    double nodeHeight = (node instanceof Wall) ? cellHeight : ((ImageView) node).getFitHeight();
-                    boolean horizontallyOverlapping = spawnX + 32 > nodeX && spawnX < nodeX + nodeWidth;
-                    boolean verticallyOverlapping = spawnY + 32 > nodeY && spawnY < nodeY + nodeHeight;
-
-                    if (horizontallyOverlapping && verticallyOverlapping) {
-                        isLocationValid = false;
-                        break;
-                    }
-                }
-            }
-
-            if (isLocationValid) {
-                double delaySeconds = 1 + Math.random();
-                PauseTransition respawnDelay = new PauseTransition(Duration.seconds(delaySeconds));
-                pendingEnemySpawns.add(respawnDelay);
-
-                respawnDelay.setOnFinished(e -> {
-                    if (!isPaused) {
-                        Enemy enemy = new Enemy(spawnX, spawnY, this);
-                        activeEnemies.add(enemy);
-                        pendingEnemySpawns.remove(respawnDelay);
-                    }
-                });
-                respawnDelay.play();
-                break;
-            }
+    // Refreshes the frame-time overlay twice a second while it is shown.
+    private void updateProfileText() {
+        if (!profileText.isVisible() || ++framesSinceProfileUpdate < 30) return;
+        framesSinceProfileUpdate = 0;
+        profileText.setText(profiler.report());
+    }
 
-            attempts++;
+    // Writes the frame-time histograms to frame-profile.txt in the working directory.
+    private void dumpProfile() {
+        Path file = Paths.get("frame-profile.txt");
+        try {
+            profiler.dump(file, config.toString());
+            System.out.println("Frame profile written to " + file.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Could not write the frame profile: " + e.getMessage());
         }
     }
 
-    // Immediately spawns an enemy if space is available.
-    public void spawnEnemyImmediate() {
-        Random rand = new Random();
-        int attempts = 0;
-
-        while (attempts < 50) {
-            double spawnX = rand.nextInt(800 / Wall.WIDTH) * Wall.WIDTH;
-            double spawnY = rand.nextInt((700 / 2) / Wall.HEIGHT) * Wall.HEIGHT;
-            boolean canSpawn = true;
-
-            for (Node node : this.getChildren()) {
-                if (node instanceof Wall || node instanceof Enemy || node instanceof Player) {
-                    double nodeX = node.getTranslateX();
-                    double nodeY = node.getTranslateY();
-                    double nodeWidth = (node instanceof Wall) ? Wall.WIDTH : ((ImageView) node).getFitWidth();
-                    double nodeHeight = (node instanceof Wall) ? Wall.HEIGHT : ((ImageView) node).getFitHeight();
-
-                    boolean horizontallyOverlapping = spawnX + 32 > nodeX && spawnX < nodeX + nodeWidth;
-                    boolean verticallyOverlapping = spawnY + 32 > nodeY && spawnY < nodeY + nodeHeight;
+    // Once a second, shows (and logs) the frame and tick rates and the average cost of a simulation tick.
+    private void updateStats(long now, int ticks, long tickCost) {
+        statsFrames++;
+        statsTicks += ticks;
+        statsTickNanos += tickCost;
+        if (statsWindowStart == 0) statsWindowStart = now;
+        if (now - statsWindowStart < 1_000_000_000L) return;
+
+        double seconds = (now - statsWindowStart) / 1e9;
+        double tickMillis = statsTicks == 0 ? 0 : statsTickNanos / 1e6 / statsTicks;
+        String stats = String.format("FPS %.0f  TPS %.0f  tick %.2f ms  enemies %d",
+                statsFrames / seconds, statsTicks / seconds, tickMillis, world.getEnemyCount());
+        statsText.setText(stats);
+        System.out.println(stats);
+
+        statsWindowStart = now;
+        statsFrames = 0;
+        statsTicks = 0;
+        statsTickNanos = 0;
+    }
 
-                    if (horizontallyOverlapping && verticallyOverlapping) {
-                        canSpawn = false;
-                        break;
-                    }
-                }
-            }
+    // WorldListener callbacks: create and drop views as entities come and go
+    @Override
+    public void tankAdded(int tank) {
+        EntityStore store = world.getEntities();
+        GameObject view = store.getType(tank) == EntityStore.ENEMY ? new Enemy(store, tank) : new Player(store, tank);
+        putView(tank, view);
+        tankLayer.getChildren().add((Node) view);
+    }
 
-            if (canSpawn) {
-                Enemy enemy = new Enemy(spawnX, spawnY, this);
-                activeEnemies.add(enemy);
-                break;
-            }
+    @Override
+    public void tankRemoved(int tank) {
+        GameObject view = takeView(tank);
+        if (view != null) tankLayer.getChildren().remove((Node) view);
+    }
 
-            attempts++;
+    // Bullets and effects borrow a hidden view from their pool instead of adding a new node
+    @Override
+    public void bulletAdded(int bullet) {
+        EntityStore store = world.getEntities();
+        if (store.getType(bullet) == EntityStore.ENEMY_BULLET) {
+            EnemyBullet view = enemyBulletViewPool.obtain();
+            view.show(store, bullet);
+            putView(bullet, view);
+        } else {
+            Bullet view = bulletViewPool.obtain();
+            view.show(store, bullet);
+            putView(bullet, view);
         }
     }
 
-    // Spawns the initial batch of enemies at game start.
-    public void spawnInitialEnemies() {
-        for (int i = 0; i < MAX_ENEMIES; i++)
-            spawnEnemyImmediate();
+    @Override
+    public void bulletRemoved(int bullet) {
+        GameObject view = takeView(bullet);
+        if (view instanceof EnemyBullet) {
+            ((EnemyBullet) view).hide();
+            enemyBulletViewPool.release((EnemyBullet) view);
+        } else if (view instanceof Bullet) {
+            ((Bullet) view).hide();
+            bulletViewPool.release((Bullet) view);
+        }
     }
 
-    // Called when an enemy is destroyed; spawns a new one.
-    public void enemyDestroyed(Enemy e) {
-        activeEnemies.remove(e);
-        spawnEnemy();
+    @Override
+    public void effectAdded(EffectState effect) {
+        if (effect.getKind() == EffectState.Kind.EXPLOSION) {
+            Explosion view = explosionViewPool.obtain();
+            view.show(effect);
+            effectViews.put(effect, view);
+        } else {
+            SmallExplosion view = smallExplosionViewPool.obtain();
+            view.show(effect);
+            effectViews.put(effect, view);
+        }
     }
 
-    // Increases score.
-    public void addScore(int value) {
-        score += value * 10;
-        scoreText.setText("Score: " + score);
+    @Override
+    public void effectRemoved(EffectState effect) {
+        GameObject view = effectViews.remove(effect);
+        if (view instanceof Explosion) {
+            ((Explosion) view).hide();
+            explosionViewPool.release((Explosion) view);
+        } else if (view instanceof SmallExplosion) {
+            ((SmallExplosion) view).hide();
+            smallExplosionViewPool.release((SmallExplosion) view);
+        }
     }
 
-    // Called when the player is hit by an enemy bullet.
-    public void hitPlayer() {
-        if (isGameOver) return;
+    private void putView(int id, GameObject view) {
+        if (id >= entityViews.length) entityViews = Arrays.copyOf(entityViews, Math.max(id + 1, entityViews.length * 2));
+        entityViews[id] = view;
+    }
 
-        new Explosion(player.getTranslateX(), player.getTranslateY(), this);
-        this.getChildren().remove(player);
-        player = null;
-        lives--;
-        livesText.setText("Lives: " + lives);
+    private GameObject takeView(int id) {
+        if (id >= entityViews.length) return null;
+        GameObject view = entityViews[id];
+        entityViews[id] = null;
+        return view;
+    }
 
-        if (lives <= 0) {
-            gameOver();
-        } else {
-            PauseTransition respawnDelay = new PauseTransition(Duration.seconds(1.5));
-            pendingPlayerRespawn = respawnDelay;
-            respawnDelay.setOnFinished(e -> {
-                if (!isPaused) {
-                    player = new Player(400, 500);
-                    this.getChildren().add(player);
-                    pendingPlayerRespawn = null;
-                }
-            });
-            respawnDelay.play();
-        }
+    // Adds a pooled view to its layer once; afterwards it is only shown and hidden.
+    private <T extends Node> T addPooledView(Group layer, T view) {
+        layer.getChildren().add(view);
+        return view;
     }
 
-    // Displays pause overlay and stops all timers/animations.
+    // Displays pause overlay; the game loop stops ticking the world while paused.
     private void pauseGame() {
         isPaused = true;
 
-        pauseOverlay = new Pane();
-        pauseOverlay.setPrefSize(800, 700);
+        pauseOverlay = centeredOverlay();
 
         Text pauseText = new Text("PAUSED");
         pauseText.setFont(new Font(40));
@@ -314,8 +419,6 @@ public class GameManager extends Pane {
 
         pauseOverlay.getChildren().addAll(pauseText, resumeText, restartText, exitText);
         this.getChildren().add(pauseOverlay);
-
-        pauseAllGameObjects(true);
     }
 
     // Resumes gameplay after pause.
@@ -323,59 +426,62 @@ public class GameManager extends Pane {
         isPaused = false;
         this.getChildren().remove(pauseOverlay);
         pauseOverlay = null;
-        pauseAllGameObjects(false);
     }
 
-    // Pauses/resumes all game objects and animations.
-    private void pauseAllGameObjects(boolean pause) {
-        for (Node node : this.getChildren()) {
-            if (node instanceof Enemy) {
-                ((Enemy) node).setPaused(pause);
-            } else if (node instanceof Bullet) {
-                ((Bullet) node).setPaused(pause);
-            } else if (node instanceof EnemyBullet) {
-                ((EnemyBullet) node).setPaused(pause);
-            } else if (node instanceof Explosion) {
-                if (pause) ((Explosion) node).pause(); else ((Explosion) node).resume();
-            } else if (node instanceof SmallExplosion) {
-                if (pause) ((SmallExplosion) node).pause(); else ((SmallExplosion) node).resume();
-            }
-        }
+    // Creates an empty overlay laid out for the standard arena, centered on the current one.
+    private Pane centeredOverlay() {
+        Pane overlay = new Pane();
+        overlay.setPrefSize(World.WIDTH, World.HEIGHT);
+        overlay.setTranslateX((world.getWidth() - World.WIDTH) / 2.0);
+        overlay.setTranslateY((world.getHeight() - World.HEIGHT) / 2.0);
+        return overlay;
+    }
 
-        if (pause) {
-            if (pendingPlayerRespawn != null) pendingPlayerRespawn.pause();
-            for (PauseTransition transition : pendingEnemySpawns) transition.pause();
-        } else {
-            if (pendingPlayerRespawn != null) pendingPlayerRespawn.play();
-            for (PauseTransition transition : pendingEnemySpawns) transition.play();
+    // Saves the current match to the recording, if one is being made.
+    private void saveRecording() {
+        if (recorder == null) return;
+        try {
+            recorder.end(world);
+        } catch (IOException e) {
+            System.err.println("Could not save the recording: " + e.getMessage());
         }
     }
 
-    // Restarts the game.
-    private void restartGame(Scene scene) {
-        for (Node node : new ArrayList<>(getChildren())) {
-            if (node instanceof Enemy) ((Enemy) node).destroy(true);
-            else if (node instanceof GameObject) ((GameObject) node).destroy();
-        }
+    // Saves the recording and quits.
+    private void exit() {
+        saveRecording();
+        System.exit(0);
+    }
 
-        getChildren().clear();
+    // Restarts the game, keeping the arena, its wall layer, the view pools, the HUD and the input handlers.
+    private void restartGame() {
+        saveRecording();
+        if (pauseOverlay != null) getChildren().remove(pauseOverlay);
+        if (gameOverOverlay != null) getChildren().remove(gameOverOverlay);
+        pauseOverlay = null;
+        gameOverOverlay = null;
         activeKeys.clear();
         isPaused = false;
         isGameOver = false;
-        player = null;
-        lives = 3;
-        score = 0;
-
-        startGame(scene);
+        shownScore = -1; // Forces the kept HUD texts to refresh
+        shownLives = -1;
+        statsWindowStart = 0;
+        statsFrames = 0;
+        statsTicks = 0;
+        statsTickNanos = 0;
+        lastFrameTime = 0;
+        unsimulatedNanos = 0;
+        profiler.reset();
+
+        beginMatch();
     }
 
     // Displays Game Over screen and halts all gameplay.
     private void gameOver() {
         isGameOver = true;
-        pauseAllGameObjects(true);
+        saveRecording();
 
-        gameOverOverlay = new Pane();
-        gameOverOverlay.setPrefSize(800, 700);
+        gameOverOverlay = centeredOverlay();
 
         Text overText = new Text("GAME OVER");
         overText.setFont(new Font(40));
@@ -383,7 +489,7 @@ public class GameManager extends Pane {
         overText.setTranslateX(290);
         overText.setTranslateY(270);
 
-        Text scoreText = new Text("Your Score: " + score);
+        Text scoreText = new Text("Your Score: " + world.getScore());
         scoreText.setFont(new Font(30));
         scoreText.setFill(Color.DARKRED);
         scoreText.setTranslateX(310);
@@ -1,13 +1,8 @@
-// The GameObject interface defines common behaviors for all game entities that can move or be destroyed.
-// Makes it easier to implement new game objects such as second player or a new enemy type.
+// The GameObject interface defines common behaviors for all on-screen game entities.
+// Each one is a view of a simulation entity in World, which makes it easier to add new kinds of game objects.
 public interface GameObject {
 
-    // Optional method for objects that support parameterless movement
-    default void move() {}
-
-    // Optional method for objects that move in a specific direction.
-    default void move(String direction) {}
-
-    // Required method to handle the destruction of the game object.
-    void destroy();
+    // Copies the simulation state (position, rotation, sprite) onto the view. Positions are blended between
+    // the previous tick (alpha 0) and the latest one (alpha 1), so motion stays smooth at any frame rate.
+    void sync(double alpha);
 }
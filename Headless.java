@@ -0,0 +1,56 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Random;
+
+// Runs the World simulation without a window, driven by a simple random bot.
+// Usage: java Headless [ticks] [--record=FILE] [WorldConfig options, e.g. --arena=3200x2800 --enemies=2000 --seed=1]
+// With --seed the bot is seeded too, so the whole run is reproducible; --record saves it for Replay.
+// --profile prints per-phase tick times (p50/p99/max) at the end.
+public class Headless {
+    private static final int DEFAULT_TICKS = 1_000_000;
+
+    public static void main(String[] args) throws IOException {
+        int ticks = args.length > 0 && !args[0].startsWith("--") ? Integer.parseInt(args[0]) : DEFAULT_TICKS;
+        WorldConfig config = WorldConfig.fromArgs(Arrays.asList(args));
+        Random bot = config.isSeeded() ? new Random(config.getSeed()) : new Random();
+        World world = new World(config);
+        world.reset();
+
+        InputRecorder recorder = null;
+        for (String arg : args) {
+            if (arg.startsWith("--record=")) recorder = new InputRecorder(Paths.get(arg.substring("--record=".length())), config);
+        }
+        if (recorder != null) recorder.begin(world.getMatchSeed());
+        FrameProfiler profiler = Arrays.asList(args).contains("--profile") ? new FrameProfiler() : null;
+        world.setProfiler(profiler);
+
+        int input = PlayerInput.NONE;
+        int matches = 1;
+        long start = System.nanoTime();
+
+        for (int i = 0; i < ticks; i++) {
+            // Hold a random set of keys for a short while, then pick another
+            if (i % 20 == 0) input = bot.nextInt(PlayerInput.FIRE << 1);
+
+            world.tick(input);
+            if (recorder != null) recorder.record(input);
+            if (world.isGameOver()) {
+                if (recorder != null) recorder.end(world);
+                world.reset();
+                if (recorder != null) recorder.begin(world.getMatchSeed());
+                matches++;
+            }
+        }
+        if (recorder != null) recorder.end(world);
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d ticks in %.2f s (%.0f ticks/s, %.1f us/tick), %d matches%n",
+                ticks, seconds, ticks / seconds, seconds * 1e6 / ticks, matches);
+        if (profiler != null) System.out.print(profiler.report());
+        if (config.isStress()) {
+            System.out.printf("%s: %d walls, %d enemies alive at the end%n",
+                    config, world.getArena().getTileCount(), world.getEnemyCount());
+        }
+    }
+}
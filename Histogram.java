@@ -0,0 +1,83 @@
+import java.util.Arrays;
+
+// The Histogram class counts durations in nanoseconds in log-linear buckets: 16 buckets per power of two,
+// so any percentile is within about 6% of the true value. Memory is fixed and recording is a few
+// arithmetic operations with no allocation, cheap enough to run every frame.
+public class Histogram {
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    // Fields
+    private final long[] counts = new long[(64 - SUB_BITS + 1) * SUB_COUNT];
+    private long total = 0;
+    private long sum = 0;
+    private long max = 0;
+
+    // Adds one duration; negative values count as zero.
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[index(value)]++;
+        total++;
+        sum += value;
+        if (value > max) max = value;
+    }
+
+    // Forgets every recorded value.
+    public void reset() {
+        Arrays.fill(counts, 0);
+        total = 0;
+        sum = 0;
+        max = 0;
+    }
+
+    // Returns the smallest bucket bound that at least the given percentage (0-100] of values do not exceed.
+    public long percentile(double percent) {
+        if (total == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percent / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(max, upperBound(i));
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return total;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return total == 0 ? 0 : (double) sum / total;
+    }
+
+    // Returns the number of buckets, and the count and lower bound of each, for dumping the full distribution.
+    public int getBucketCount() {
+        return counts.length;
+    }
+
+    public long getBucketValue(int bucket) {
+        return counts[bucket];
+    }
+
+    public static long lowerBound(int bucket) {
+        if (bucket < SUB_COUNT) return bucket;
+        int shift = bucket / SUB_COUNT - 1;
+        return (long) (SUB_COUNT + bucket % SUB_COUNT) << shift;
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket + 1 < (64 - SUB_BITS + 1) * SUB_COUNT ? lowerBound(bucket + 1) - 1 : Long.MAX_VALUE;
+    }
+
+    // Values below 16 get a bucket each; above that, the top five significant bits pick the bucket.
+    private static int index(long value) {
+        if (value < SUB_COUNT) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return (shift + 1) * SUB_COUNT + (int) ((value >>> shift) & (SUB_COUNT - 1));
+    }
+}
@@ -0,0 +1,114 @@
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+// The InputRecorder class writes compact binary recordings of played matches, which Replay plays back headless.
+// A match is its seed plus the PlayerInput mask of every tick, run-length encoded: keys are held for many
+// ticks at a time, so a long match takes a few kilobytes.
+//
+// File layout (big-endian; varints are unsigned LEB128):
+//   header: int MAGIC, byte VERSION, varint args, args x UTF argument (WorldConfig.toArgs())
+//   match*: long seed, varint ticks, varint runs, runs x (byte input, varint length),
+//           int final score, long final World.stateHash()
+public class InputRecorder {
+    static final int MAGIC = 0x544B5250; // "TKRP"
+    static final int VERSION = 2; // 1 stored the config as one space-separated string, before --walls
+
+    // Fields
+    private final Path file;
+    private final WorldConfig config;
+    private boolean headerWritten = false;
+    private boolean recording = false;
+    private long seed;
+    private long ticks;
+    private byte[] runInputs = new byte[256];
+    private int[] runLengths = new int[256];
+    private int runCount;
+
+    // Creates a recorder for matches played with the given config; the file is replaced on the first save.
+    public InputRecorder(Path file, WorldConfig config) {
+        this.file = file;
+        this.config = config;
+    }
+
+    // Starts recording a match that was just reset with the given seed.
+    public void begin(long matchSeed) {
+        seed = matchSeed;
+        ticks = 0;
+        runCount = 0;
+        recording = true;
+    }
+
+    // Records the input of one simulated tick.
+    public void record(int input) {
+        if (!recording) return;
+
+        ticks++;
+        if (runCount > 0 && runInputs[runCount - 1] == input && runLengths[runCount - 1] < Integer.MAX_VALUE) {
+            runLengths[runCount - 1]++;
+            return;
+        }
+        if (runCount == runInputs.length) {
+            runInputs = Arrays.copyOf(runInputs, runCount * 2);
+            runLengths = Arrays.copyOf(runLengths, runCount * 2);
+        }
+        runInputs[runCount] = (byte) input;
+        runLengths[runCount++] = 1;
+    }
+
+    // Appends the match to the file, with the world's final score and state hash so a replay can be verified.
+    public void end(World world) throws IOException {
+        if (!recording) return;
+        recording = false;
+
+        StandardOpenOption mode = headerWritten ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)))) {
+            if (!headerWritten) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                List<String> args = config.toArgs();
+                writeVarint(out, args.size());
+                for (String arg : args) {
+                    out.writeUTF(arg);
+                }
+                headerWritten = true;
+            }
+
+            out.writeLong(seed);
+            writeVarint(out, ticks);
+            writeVarint(out, runCount);
+            for (int i = 0; i < runCount; i++) {
+                out.writeByte(runInputs[i]);
+                writeVarint(out, runLengths[i]);
+            }
+            out.writeInt(world.getScore());
+            out.writeLong(world.stateHash());
+        }
+    }
+
+    static void writeVarint(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarint(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+}
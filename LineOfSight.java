@@ -0,0 +1,58 @@
+// The LineOfSight class answers "does this long, thin box along one axis touch a wall?" for aiming.
+// A wide box is handed to WallGrid, whose bitsets already hold one row per word run, so a horizontal line
+// reads the few rows it spans. For tall boxes it keeps the grid transposed, one bitset per column (a bit
+// per row), so a vertical line reads the few columns it spans instead of one word per row.
+public class LineOfSight {
+    // Fields
+    private final WallGrid walls;
+    private final int cellWidth;
+    private final int cellHeight;
+    private final int columns;
+    private final int rows;
+    private final int wordsPerColumn;
+    private final long[] columnBits; // Bit r of column c is set when cell (c, r) holds a wall
+
+    // Transposes the occupancy of the given wall grid; the walls never change afterwards.
+    public LineOfSight(WallGrid walls) {
+        this.walls = walls;
+        cellWidth = walls.getCellWidth();
+        cellHeight = walls.getCellHeight();
+        columns = walls.getColumns();
+        rows = walls.getRows();
+        wordsPerColumn = (rows + 63) >>> 6;
+        columnBits = new long[columns * wordsPerColumn];
+
+        for (int c = 0; c < columns; c++) {
+            for (int r = 0; r < rows; r++) {
+                if (walls.isBlocked(c, r)) columnBits[c * wordsPerColumn + (r >>> 6)] |= 1L << (r & 63);
+            }
+        }
+    }
+
+    // Returns true if the closed box [minX, maxX] x [minY, maxY] touches no wall, with the same rule as
+    // WallGrid.touches(). Wide boxes go to the grid's rows, tall ones are read column by column.
+    public boolean isClear(double minX, double minY, double maxX, double maxY) {
+        int c0 = Math.max(0, (int) Math.ceil(minX / cellWidth) - 1);
+        int c1 = Math.min(columns - 1, (int) Math.floor(maxX / cellWidth));
+        int r0 = Math.max(0, (int) Math.ceil(minY / cellHeight) - 1);
+        int r1 = Math.min(rows - 1, (int) Math.floor(maxY / cellHeight));
+        if (c0 > c1 || r0 > r1) return true;
+
+        if (c1 - c0 >= r1 - r0) return !walls.touches(minX, minY, maxX, maxY);
+
+        int w0 = r0 >>> 6;
+        int w1 = r1 >>> 6;
+        long firstMask = -1L << (r0 & 63);
+        long lastMask = -1L >>> (63 - (r1 & 63));
+        for (int c = c0; c <= c1; c++) {
+            int base = c * wordsPerColumn;
+            for (int w = w0; w <= w1; w++) {
+                long mask = -1L;
+                if (w == w0) mask &= firstMask;
+                if (w == w1) mask &= lastMask;
+                if ((columnBits[base + w] & mask) != 0) return false;
+            }
+        }
+        return true;
+    }
+}
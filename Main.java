@@ -1,17 +1,49 @@
 import javafx.application.Application;
+import javafx.scene.Group;
 import javafx.scene.Scene;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Scale;
 import javafx.stage.Stage;
+import java.nio.file.Paths;
+import java.util.List;
 
 // Entry point of the TANK2025 game application.
 public class Main extends Application {
+    // Largest window the arena is drawn into; bigger stress arenas are scaled down to fit
+    private static final double MAX_WINDOW_WIDTH = 1280;
+    private static final double MAX_WINDOW_HEIGHT = 960;
+
     // Called automatically when the JavaFX application is launched.
     @Override
     public void start(Stage primaryStage) {
+        // Decode all sprites once; every view shares them
+        Assets.preload();
+
         // Create the main game controller (root node)
-        GameManager gameManager = new GameManager();
+        // Pass --canvas to draw all entities onto one canvas instead of one node each,
+        // and the WorldConfig options (--arena, --enemies, ...) to start the stress mode
+        List<String> args = getParameters().getRaw();
+        boolean canvasRendering = args.contains("--canvas");
+        WorldConfig config = WorldConfig.fromArgs(args);
+        GameManager gameManager = new GameManager(canvasRendering, config);
+
+        // Pass --record=FILE to save every match for headless replay (java Replay FILE)
+        for (String arg : args) {
+            if (arg.startsWith("--record=")) {
+                gameManager.setRecorder(new InputRecorder(Paths.get(arg.substring("--record=".length())), config));
+            }
+        }
 
-        // Set up the scene with specified dimensions
-        Scene scene = new Scene(gameManager, 800, 700);
+        // Set up the scene with the arena's dimensions, scaled down if it does not fit the window
+        double scale = Math.min(1, Math.min(MAX_WINDOW_WIDTH / config.getWidth(), MAX_WINDOW_HEIGHT / config.getHeight()));
+        Scene scene;
+        if (scale < 1) {
+            gameManager.getTransforms().add(new Scale(scale, scale, 0, 0));
+            scene = new Scene(new Group(gameManager), config.getWidth() * scale, config.getHeight() * scale);
+            scene.setFill(Color.BLACK);
+        } else {
+            scene = new Scene(gameManager, config.getWidth(), config.getHeight());
+        }
 
         // Configure and display the main window
         primaryStage.setTitle("TANK2025");
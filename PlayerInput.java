@@ -0,0 +1,18 @@
+// The PlayerInput class defines the bit flags that make up one tick of player input.
+// Packing the held keys into an int keeps input cheap to pass around, script and record.
+public final class PlayerInput {
+    public static final int NONE = 0;
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int UP = 1 << 2;
+    public static final int DOWN = 1 << 3;
+    public static final int FIRE = 1 << 4;
+
+    private PlayerInput() {
+    }
+
+    // Returns true if the given flag is set in the input mask.
+    public static boolean isHeld(int input, int flag) {
+        return (input & flag) != 0;
+    }
+}
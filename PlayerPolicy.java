@@ -0,0 +1,92 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// The PlayerPolicy interface decides the player's input for each tick of a headless match.
+// Policies hold per-match state, so every match gets its own instance from fromSpec().
+public interface PlayerPolicy {
+
+    // Returns the PlayerInput mask for the world's next tick.
+    int nextInput(World world);
+
+    // Creates a policy from its description:
+    //   random                        hold a random set of keys for a third of a second at a time
+    //   script:KEYS*TICKS,...         hold each key set (e.g. LEFT+FIRE, or NONE) for TICKS ticks, looping
+    static PlayerPolicy fromSpec(String spec, long seed) {
+        if (spec.equals("random")) return new RandomBot(seed);
+        if (spec.startsWith("script:")) return new Script(spec.substring("script:".length()));
+        throw new IllegalArgumentException("Unknown policy: " + spec);
+    }
+
+    // Picks a random input mask every third of a second (20 ticks at the default rate), like the Headless bot.
+    final class RandomBot implements PlayerPolicy {
+        private static final int HOLDS_PER_SECOND = 3;
+        private final Random random;
+        private int input = PlayerInput.NONE;
+
+        RandomBot(long seed) {
+            random = new Random(seed);
+        }
+
+        @Override
+        public int nextInput(World world) {
+            long holdTicks = Math.max(1, world.getTicksPerSecond() / HOLDS_PER_SECOND);
+            if (world.getTickCount() % holdTicks == 0) input = random.nextInt(PlayerInput.FIRE << 1);
+            return input;
+        }
+    }
+
+    // Replays a fixed, looping sequence of held key sets.
+    final class Script implements PlayerPolicy {
+        private final int[] inputs;
+        private final int[] durations;
+        private int step = 0;
+        private int ticksLeft;
+
+        Script(String script) {
+            List<int[]> steps = new ArrayList<>();
+            for (String part : script.split(",")) {
+                String[] keysAndTicks = part.trim().split("\\*");
+                if (keysAndTicks.length != 2) throw new IllegalArgumentException("Expected KEYS*TICKS: " + part);
+
+                int input = PlayerInput.NONE;
+                for (String key : keysAndTicks[0].split("\\+")) {
+                    input |= parseKey(key.trim());
+                }
+                int ticks = Integer.parseInt(keysAndTicks[1].trim());
+                if (ticks <= 0) throw new IllegalArgumentException("Step must last at least one tick: " + part);
+                steps.add(new int[]{input, ticks});
+            }
+
+            inputs = new int[steps.size()];
+            durations = new int[steps.size()];
+            for (int i = 0; i < steps.size(); i++) {
+                inputs[i] = steps.get(i)[0];
+                durations[i] = steps.get(i)[1];
+            }
+            ticksLeft = durations[0];
+        }
+
+        @Override
+        public int nextInput(World world) {
+            if (ticksLeft == 0) {
+                step = (step + 1) % inputs.length;
+                ticksLeft = durations[step];
+            }
+            ticksLeft--;
+            return inputs[step];
+        }
+
+        private static int parseKey(String key) {
+            switch (key) {
+                case "NONE": return PlayerInput.NONE;
+                case "LEFT": return PlayerInput.LEFT;
+                case "RIGHT": return PlayerInput.RIGHT;
+                case "UP": return PlayerInput.UP;
+                case "DOWN": return PlayerInput.DOWN;
+                case "FIRE": return PlayerInput.FIRE;
+                default: throw new IllegalArgumentException("Unknown key: " + key);
+            }
+        }
+    }
+}
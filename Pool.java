@@ -0,0 +1,29 @@
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+// The Pool class keeps released objects for reuse, so short-lived bullets and effects stop churning the GC.
+public class Pool<T> {
+    // Fields
+    private final Supplier<T> factory;
+    private final ArrayDeque<T> free;
+
+    // Creates a pool and fills it with initialSize objects up front.
+    public Pool(Supplier<T> factory, int initialSize) {
+        this.factory = factory;
+        this.free = new ArrayDeque<>(initialSize * 2);
+        for (int i = 0; i < initialSize; i++) {
+            free.push(factory.get());
+        }
+    }
+
+    // Returns a free object, creating a new one only if the pool has run dry.
+    public T obtain() {
+        T object = free.poll();
+        return object != null ? object : factory.get();
+    }
+
+    // Returns an object to the pool; the caller must not use it afterwards.
+    public void release(T object) {
+        free.push(object);
+    }
+}
@@ -0,0 +1,112 @@
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+// Plays back an InputRecorder file headless and checks that every match ends bit for bit where it was recorded.
+// With --repeat it doubles as a fixed, repeatable performance workload.
+// Usage: java Replay recording [--repeat=N]
+public class Replay {
+
+    // One recorded match: its seed, the run-length encoded inputs, and the expected outcome.
+    static final class Match {
+        long seed;
+        long ticks;
+        byte[] inputs;
+        int[] lengths;
+        int score;
+        long stateHash;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: java Replay recording [--repeat=N]");
+            System.exit(2);
+        }
+        int repeat = 1;
+        for (String arg : args) {
+            if (arg.startsWith("--repeat=")) repeat = Integer.parseInt(arg.substring("--repeat=".length()));
+        }
+
+        List<Match> matches = new ArrayList<>();
+        WorldConfig config = read(Paths.get(args[0]), matches);
+        World world = new World(config);
+
+        int mismatches = 0;
+        long totalTicks = 0;
+        long start = System.nanoTime();
+        for (int pass = 0; pass < repeat; pass++) {
+            for (int m = 0; m < matches.size(); m++) {
+                Match match = matches.get(m);
+                boolean ok = play(world, match);
+                totalTicks += match.ticks;
+                if (!ok) mismatches++;
+                if (pass == 0) {
+                    System.out.printf("match %d: seed %d, %d ticks, score %d (recorded %d) %s%n", m + 1, match.seed,
+                            match.ticks, world.getScore(), match.score, ok ? "OK" : "MISMATCH");
+                }
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d ticks in %.2f s (%.0f ticks/s), %d mismatches%n",
+                totalTicks, seconds, totalTicks / seconds, mismatches);
+        if (mismatches > 0) System.exit(1);
+    }
+
+    // Replays one match on the world; returns true if it ended in the recorded state.
+    private static boolean play(World world, Match match) {
+        world.reset(match.seed);
+        for (int run = 0; run < match.inputs.length; run++) {
+            int input = match.inputs[run];
+            for (int i = 0; i < match.lengths[run]; i++) {
+                world.tick(input);
+            }
+        }
+        return world.getScore() == match.score && world.stateHash() == match.stateHash;
+    }
+
+    // Reads every match of a recording and returns the config it was recorded with.
+    static WorldConfig read(Path file, List<Match> matches) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != InputRecorder.MAGIC) throw new IOException("Not a recording: " + file);
+            int version = in.readUnsignedByte();
+            // Older recordings cannot be replayed: their config may name a different arena under today's options
+            if (version != InputRecorder.VERSION) {
+                throw new IOException("Unsupported recording version " + version + " (expected "
+                        + InputRecorder.VERSION + "); record the matches again");
+            }
+            int argCount = (int) InputRecorder.readVarint(in);
+            List<String> args = new ArrayList<>();
+            for (int i = 0; i < argCount; i++) {
+                args.add(in.readUTF());
+            }
+            WorldConfig config = WorldConfig.fromArgs(args);
+
+            while (true) {
+                Match match = new Match();
+                try {
+                    match.seed = in.readLong();
+                } catch (EOFException e) {
+                    return config;
+                }
+                match.ticks = InputRecorder.readVarint(in);
+                int runs = (int) InputRecorder.readVarint(in);
+                match.inputs = new byte[runs];
+                match.lengths = new int[runs];
+                for (int i = 0; i < runs; i++) {
+                    match.inputs[i] = in.readByte();
+                    match.lengths[i] = (int) InputRecorder.readVarint(in);
+                }
+                match.score = in.readInt();
+                match.stateHash = in.readLong();
+                matches.add(match);
+            }
+        }
+    }
+}
@@ -1,44 +1,33 @@
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.animation.PauseTransition;
-import javafx.util.Duration;
 
 // The SmallExplosion class represents a visual effect for small explosions.
-public class SmallExplosion extends ImageView {
-    private PauseTransition transition;  // Controls how long the explosion stays visible
+// Instances are pooled by GameManager and reused for every bullet impact.
+public class SmallExplosion extends ImageView implements GameObject {
 
-    // Creates and displays a small explosion at the specified (x, y) coordinates.
-    public SmallExplosion(double x, double y, GameManager gameManager) {
-        // Load the explosion image
-        Image explosionImage = new Image("file:assets/smallExplosion.png");
-        setImage(explosionImage);
+    // Creates a hidden small explosion view.
+    public SmallExplosion() {
+        // Use the shared explosion image
+        setImage(Assets.get(Assets.SMALL_EXPLOSION));
         setFitWidth(32);
         setFitHeight(32);
+        setVisible(false);
+    }
 
+    // Shows the small explosion for an effect; World decides when it expires.
+    public void show(EffectState effect) {
         // Center the image around (x, y)
-        setTranslateX(x - 16); // 32 / 2
-        setTranslateY(y - 16); // 32 / 2
-
-        // Add explosion to the game scene
-        gameManager.getChildren().add(this);
-
-        // Automatically remove the explosion after 0.3 seconds
-        transition = new PauseTransition(Duration.seconds(0.3));
-        transition.setOnFinished(e -> gameManager.getChildren().remove(this));
-        transition.play();
+        setTranslateX(effect.getX() - 16); // 32 / 2
+        setTranslateY(effect.getY() - 16); // 32 / 2
+        setVisible(true);
     }
 
-    // Pauses the explosion's disappearance.
-    public void pause() {
-        if (transition != null) {
-            transition.pause();
-        }
+    // Hides the small explosion so the view can be reused.
+    public void hide() {
+        setVisible(false);
     }
 
-    // Resumes the explosion's disappearance.
-    public void resume() {
-        if (transition != null) {
-            transition.play();
-        }
+    // Small explosions do not move, so there is nothing to update.
+    @Override
+    public void sync(double alpha) {
     }
 }
@@ -0,0 +1,112 @@
+import java.util.Arrays;
+
+// The SpatialHash class is a uniform-grid broadphase for tanks.
+// It is rebuilt once per tick, so each bullet only tests the tanks in the cells its bounds cover.
+public class SpatialHash {
+    // Fields
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] cellHead;     // First entry in each cell, or -1
+    private int[] next = new int[64]; // Next entry in the same cell, or -1
+    private int[] order = new int[64]; // Insertion order of the tank, used to break ties like a list scan would
+    private int[] tanks = new int[64];          // Entity ids
+    private int[] usedCells = new int[64];
+    private int entryCount = 0;
+    private int usedCellCount = 0;
+    private int tankCount = 0;
+
+    // Creates an empty hash covering a width x height arena with square cells.
+    public SpatialHash(int width, int height, int cellSize) {
+        this.cellSize = cellSize;
+        this.columns = width / cellSize + 1;
+        this.rows = height / cellSize + 1;
+        this.cellHead = new int[columns * rows];
+        Arrays.fill(cellHead, -1);
+    }
+
+    // Removes all tanks; only the cells used since the last clear are reset.
+    public void clear() {
+        for (int i = 0; i < usedCellCount; i++) {
+            cellHead[usedCells[i]] = -1;
+        }
+        usedCellCount = 0;
+        entryCount = 0;
+        tankCount = 0;
+    }
+
+    // Adds a tank to every cell its closed bounds touch.
+    public void insert(EntityStore store, int tank) {
+        double x = store.x[tank];
+        double y = store.y[tank];
+        int c0 = column(x);
+        int c1 = column(x + EntityStore.TANK_SIZE);
+        int r0 = row(y);
+        int r1 = row(y + EntityStore.TANK_SIZE);
+        int tankOrder = tankCount++;
+
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * columns + c;
+                if (entryCount == next.length) grow();
+                if (cellHead[cell] == -1) markUsed(cell);
+
+                next[entryCount] = cellHead[cell];
+                order[entryCount] = tankOrder;
+                tanks[entryCount] = tank;
+                cellHead[cell] = entryCount++;
+            }
+        }
+    }
+
+    // Returns the id of the live tank touching the closed box that comes first when travelling by (vx, vy), or -1.
+    // The box is a bullet's path over one tick; ties go to the earliest-inserted tank, as a list scan would pick.
+    public int findNearest(EntityStore store, double minX, double minY, double maxX, double maxY, double vx, double vy) {
+        int found = -1;
+        int foundOrder = Integer.MAX_VALUE;
+        double foundDistance = Double.POSITIVE_INFINITY;
+
+        for (int r = row(minY), r1 = row(maxY); r <= r1; r++) {
+            for (int c = column(minX), c1 = column(maxX); c <= c1; c++) {
+                for (int e = cellHead[r * columns + c]; e != -1; e = next[e]) {
+                    int tank = tanks[e];
+                    double x = store.x[tank];
+                    double y = store.y[tank];
+                    if (!store.alive[tank]
+                            || maxX < x || minX > x + EntityStore.TANK_SIZE
+                            || maxY < y || minY > y + EntityStore.TANK_SIZE) continue;
+
+                    // Position of the near edge along the travel direction; smaller is met sooner
+                    double distance = vx > 0 ? x : vx < 0 ? -(x + EntityStore.TANK_SIZE)
+                            : vy > 0 ? y : vy < 0 ? -(y + EntityStore.TANK_SIZE) : 0;
+                    if (distance < foundDistance || (distance == foundDistance && order[e] < foundOrder)) {
+                        found = tank;
+                        foundOrder = order[e];
+                        foundDistance = distance;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private int column(double x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor(x / cellSize)));
+    }
+
+    private int row(double y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / cellSize)));
+    }
+
+    private void markUsed(int cell) {
+        if (usedCellCount == usedCells.length) usedCells = Arrays.copyOf(usedCells, usedCellCount * 2);
+        usedCells[usedCellCount++] = cell;
+    }
+
+    private void grow() {
+        int capacity = next.length * 2;
+        next = Arrays.copyOf(next, capacity);
+        order = Arrays.copyOf(order, capacity);
+        tanks = Arrays.copyOf(tanks, capacity);
+    }
+}
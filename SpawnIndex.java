@@ -0,0 +1,175 @@
+import java.util.Arrays;
+import java.util.Random;
+
+// The SpawnIndex class keeps the set of enemy spawn slots that are currently free of walls and tanks.
+// Tanks report their moves, so picking a spawn is a constant-time random draw that never fails while space exists.
+public class SpawnIndex {
+    // Fields
+    private final int slotWidth;
+    private final int slotHeight;
+    private final int columns;
+    private final int rows;
+    private final long[] wallBlocked;    // Bitmap of the slots that overlap a wall, fixed for the arena
+    private final int[] blockers;        // Number of tanks overlapping each slot
+    private final int[] freeSlots;       // Dense set of free slot ids
+    private final int[] freePosition;    // Index of each slot in freeSlots, or -1
+    private int freeCount = 0;
+    // Slot range each tracked tank blocks, indexed by entity id; column0 is -1 for untracked ids
+    private int[] column0 = new int[0];
+    private int[] column1 = new int[0];
+    private int[] row0 = new int[0];
+    private int[] row1 = new int[0];
+
+    // Creates the index for a columns x rows lattice of tank-sized slots, spaced slotWidth x slotHeight apart.
+    // wallBlocked comes from blockedSlots() and is only read, so arenas can share it between worlds.
+    public SpawnIndex(long[] wallBlocked, int slotWidth, int slotHeight, int columns, int rows) {
+        this.slotWidth = slotWidth;
+        this.slotHeight = slotHeight;
+        this.columns = columns;
+        this.rows = rows;
+        this.wallBlocked = wallBlocked;
+        this.blockers = new int[columns * rows];
+        this.freeSlots = new int[columns * rows];
+        this.freePosition = new int[columns * rows];
+        clear();
+    }
+
+    // Returns the bitmap of slots on the lattice that a tank cannot occupy because of a wall.
+    public static long[] blockedSlots(WallGrid walls, int slotWidth, int slotHeight, int columns, int rows) {
+        long[] blocked = new long[(columns * rows + 63) >>> 6];
+        for (int slot = 0; slot < columns * rows; slot++) {
+            double x = (slot % columns) * slotWidth;
+            double y = (slot / columns) * slotHeight;
+            if (walls.overlaps(x, y, EntityStore.TANK_SIZE, EntityStore.TANK_SIZE)) blocked[slot >>> 6] |= 1L << (slot & 63);
+        }
+        return blocked;
+    }
+
+    // Forgets all tanks; every slot not covered by a wall becomes free again.
+    public void clear() {
+        Arrays.fill(blockers, 0);
+        Arrays.fill(freePosition, -1);
+        Arrays.fill(column0, -1);
+        freeCount = 0;
+        for (int slot = 0; slot < blockers.length; slot++) {
+            if (!isWallBlocked(slot)) addFree(slot);
+        }
+    }
+
+    // Starts tracking a tank at its current position.
+    public void add(EntityStore store, int tank) {
+        if (tank >= column0.length) grow(store.capacity());
+
+        double x = store.x[tank];
+        double y = store.y[tank];
+        column0[tank] = firstColumn(x);
+        column1[tank] = lastColumn(x);
+        row0[tank] = firstRow(y);
+        row1[tank] = lastRow(y);
+        apply(tank, 1);
+    }
+
+    // Updates the slots a tracked tank blocks after it moved; cheap when it stays over the same slots.
+    public void move(EntityStore store, int tank) {
+        if (tank >= column0.length || column0[tank] < 0) return;
+
+        double x = store.x[tank];
+        double y = store.y[tank];
+        int c0 = firstColumn(x);
+        int c1 = lastColumn(x);
+        int r0 = firstRow(y);
+        int r1 = lastRow(y);
+        if (c0 == column0[tank] && c1 == column1[tank] && r0 == row0[tank] && r1 == row1[tank]) return;
+
+        apply(tank, -1);
+        column0[tank] = c0;
+        column1[tank] = c1;
+        row0[tank] = r0;
+        row1[tank] = r1;
+        apply(tank, 1);
+    }
+
+    // Stops tracking a tank that died or left the arena.
+    public void remove(int tank) {
+        if (tank >= column0.length || column0[tank] < 0) return;
+        apply(tank, -1);
+        column0[tank] = -1;
+    }
+
+    // Returns the number of slots a tank could spawn in right now.
+    public int getFreeCount() {
+        return freeCount;
+    }
+
+    // Returns a uniformly random free slot; only valid while getFreeCount() > 0.
+    public int pick(Random random) {
+        return freeSlots[random.nextInt(freeCount)];
+    }
+
+    public double slotX(int slot) {
+        return (slot % columns) * slotWidth;
+    }
+
+    public double slotY(int slot) {
+        return (slot / columns) * slotHeight;
+    }
+
+    // Adds delta to every slot in the tank's recorded range, keeping the free set in step.
+    private void apply(int tank, int delta) {
+        for (int r = row0[tank]; r <= row1[tank]; r++) {
+            for (int c = column0[tank]; c <= column1[tank]; c++) {
+                int slot = r * columns + c;
+                int before = blockers[slot];
+                blockers[slot] = before + delta;
+                if (isWallBlocked(slot)) continue;
+
+                if (before == 0) removeFree(slot);
+                else if (before + delta == 0) addFree(slot);
+            }
+        }
+    }
+
+    private boolean isWallBlocked(int slot) {
+        return (wallBlocked[slot >>> 6] & (1L << (slot & 63))) != 0;
+    }
+
+    // A slot at sx overlaps a tank at x when |sx - x| < SIZE (touching edges do not count).
+    private int firstColumn(double x) {
+        return Math.max(0, (int) Math.floor((x - EntityStore.TANK_SIZE) / slotWidth) + 1);
+    }
+
+    private int lastColumn(double x) {
+        return Math.min(columns - 1, (int) Math.ceil((x + EntityStore.TANK_SIZE) / slotWidth) - 1);
+    }
+
+    private int firstRow(double y) {
+        return Math.max(0, (int) Math.floor((y - EntityStore.TANK_SIZE) / slotHeight) + 1);
+    }
+
+    private int lastRow(double y) {
+        return Math.min(rows - 1, (int) Math.ceil((y + EntityStore.TANK_SIZE) / slotHeight) - 1);
+    }
+
+    private void grow(int capacity) {
+        int oldCapacity = column0.length;
+        column0 = Arrays.copyOf(column0, capacity);
+        column1 = Arrays.copyOf(column1, capacity);
+        row0 = Arrays.copyOf(row0, capacity);
+        row1 = Arrays.copyOf(row1, capacity);
+        Arrays.fill(column0, oldCapacity, capacity, -1);
+    }
+
+    private void addFree(int slot) {
+        freePosition[slot] = freeCount;
+        freeSlots[freeCount++] = slot;
+    }
+
+    // Swap-removes the slot from the dense free set.
+    private void removeFree(int slot) {
+        int position = freePosition[slot];
+        int last = freeSlots[--freeCount];
+        freeSlots[position] = last;
+        freePosition[last] = position;
+        freePosition[slot] = -1;
+    }
+}
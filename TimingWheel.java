@@ -0,0 +1,116 @@
+import java.util.Arrays;
+
+// The TimingWheel class is a hashed timing wheel for per-entity timers, advanced once per simulation tick.
+// Scheduling and expiring a timer are constant time and allocation-free, however many tanks are alive,
+// and the wheel only moves when the world ticks, so pausing the game pauses every timer with it.
+public class TimingWheel {
+    // Receives timers as they expire.
+    // The generation is the one passed to schedule(), so the handler can drop timers of released entities.
+    public interface Handler {
+        void onTimer(int entity, int generation, int kind);
+    }
+
+    // Fields
+    private final int mask;
+    private final int bits;
+    private final int[] slotHead;  // First event in each slot, or -1
+    private int[] next;            // Next event in the same slot, or the next free event
+    private int[] kinds;
+    private int[] rounds;          // Full turns of the wheel left before the event fires
+    private int[] entities;
+    private int[] generations;
+    private int freeHead = -1;
+    private int cursor = 0;
+    private int size = 0;
+
+    // Creates a wheel with 2^bits slots (one per tick) and room for initialCapacity timers.
+    public TimingWheel(int bits, int initialCapacity) {
+        this.bits = bits;
+        this.mask = (1 << bits) - 1;
+        this.slotHead = new int[1 << bits];
+        this.next = new int[initialCapacity];
+        this.kinds = new int[initialCapacity];
+        this.rounds = new int[initialCapacity];
+        this.entities = new int[initialCapacity];
+        this.generations = new int[initialCapacity];
+        clear();
+    }
+
+    // Drops every pending timer.
+    public void clear() {
+        Arrays.fill(slotHead, -1);
+        freeHead = -1;
+        for (int e = next.length - 1; e >= 0; e--) {
+            next[e] = freeHead;
+            freeHead = e;
+        }
+        cursor = 0;
+        size = 0;
+    }
+
+    // Schedules a timer of the given kind for an entity handle, firing delayTicks (>= 1) ticks from now.
+    public void schedule(int entity, int generation, int kind, int delayTicks) {
+        if (freeHead == -1) grow();
+
+        int delay = Math.max(1, delayTicks);
+        int e = freeHead;
+        freeHead = next[e];
+
+        int slot = (cursor + delay) & mask;
+        entities[e] = entity;
+        generations[e] = generation;
+        kinds[e] = kind;
+        rounds[e] = (delay - 1) >>> bits;
+        next[e] = slotHead[slot];
+        slotHead[slot] = e;
+        size++;
+    }
+
+    // Moves the wheel one tick forward and hands every timer that is due to the handler.
+    // The handler may schedule new timers, including for the same entity.
+    public void advance(Handler handler) {
+        cursor = (cursor + 1) & mask;
+
+        // Detach the slot; events that still have rounds to go are pushed back onto it
+        int e = slotHead[cursor];
+        slotHead[cursor] = -1;
+        while (e != -1) {
+            int following = next[e];
+            if (rounds[e] > 0) {
+                rounds[e]--;
+                next[e] = slotHead[cursor];
+                slotHead[cursor] = e;
+            } else {
+                // Free the entry before calling out, so the handler can reuse it
+                int entity = entities[e];
+                int generation = generations[e];
+                int kind = kinds[e];
+                next[e] = freeHead;
+                freeHead = e;
+                size--;
+
+                handler.onTimer(entity, generation, kind);
+            }
+            e = following;
+        }
+    }
+
+    // Returns the number of pending timers.
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        int oldCapacity = next.length;
+        int capacity = Math.max(16, oldCapacity * 2);
+        next = Arrays.copyOf(next, capacity);
+        kinds = Arrays.copyOf(kinds, capacity);
+        rounds = Arrays.copyOf(rounds, capacity);
+        entities = Arrays.copyOf(entities, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        for (int e = capacity - 1; e >= oldCapacity; e--) {
+            next[e] = freeHead;
+            freeHead = e;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+// The WallGrid class bakes the static wall tiles into a bitset occupancy grid.
+// Collision checks then only test the few grid rows and words under a box, instead of every wall.
+// Tanks also treat everything outside the arena as wall, so levels without a closed border still hold them.
+public class WallGrid {
+    // Fields
+    private final int width;   // Arena size; the grid itself may extend past it under overhanging tiles
+    private final int height;
+    private final int cellWidth;
+    private final int cellHeight;
+    private final int columns;
+    private final int rows;
+    private final int wordsPerRow;
+    private final long[] bits; // One bit per cell, row-major, each row padded to whole longs
+
+    // Builds the grid for an arena of the given size from {x, y} wall tile positions.
+    // The cell size is the coarsest one that still lines up with every tile edge, so the grid is exact:
+    // a layout snapped to the tile lattice gets one cell per tile, offset tiles get a finer grid.
+    public WallGrid(int width, int height, int tileWidth, int tileHeight, List<int[]> tiles) {
+        int cw = tileWidth;
+        int ch = tileHeight;
+        int extentX = width;
+        int extentY = height;
+        for (int[] tile : tiles) {
+            cw = gcd(cw, tile[0]);
+            ch = gcd(ch, tile[1]);
+            extentX = Math.max(extentX, tile[0] + tileWidth);   // Border tiles may overhang the arena edge
+            extentY = Math.max(extentY, tile[1] + tileHeight);
+        }
+
+        this.width = width;
+        this.height = height;
+        cellWidth = cw;
+        cellHeight = ch;
+        columns = (extentX + cw - 1) / cw;
+        rows = (extentY + ch - 1) / ch;
+        wordsPerRow = (columns + 63) >>> 6;
+        bits = new long[rows * wordsPerRow];
+
+        for (int[] tile : tiles) {
+            int c0 = Math.max(0, tile[0] / cw);
+            int c1 = Math.min(columns, (tile[0] + tileWidth) / cw);
+            int r0 = Math.max(0, tile[1] / ch);
+            int r1 = Math.min(rows, (tile[1] + tileHeight) / ch);
+            for (int r = r0; r < r1; r++) {
+                for (int c = c0; c < c1; c++) {
+                    bits[r * wordsPerRow + (c >>> 6)] |= 1L << (c & 63);
+                }
+            }
+        }
+    }
+
+    private WallGrid(int width, int height, int cellWidth, int cellHeight, int columns, int rows, long[] bits) {
+        this.width = width;
+        this.height = height;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.columns = columns;
+        this.rows = rows;
+        this.wordsPerRow = (columns + 63) >>> 6;
+        this.bits = bits;
+    }
+
+    // Writes the grid geometry and occupancy bits, for baked arena files.
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(cellWidth);
+        out.writeInt(cellHeight);
+        out.writeInt(columns);
+        out.writeInt(rows);
+        for (long word : bits) {
+            out.writeLong(word);
+        }
+    }
+
+    // Reads a grid written by write() for an arena of the given size; the occupancy bits are copied out of
+    // the buffer in one bulk transfer.
+    static WallGrid read(ByteBuffer in, int width, int height) {
+        int cellWidth = in.getInt();
+        int cellHeight = in.getInt();
+        int columns = in.getInt();
+        int rows = in.getInt();
+        if (cellWidth <= 0 || cellHeight <= 0 || columns <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("Invalid grid: " + columns + "x" + rows + " cells of " + cellWidth + "x" + cellHeight);
+        }
+
+        // Checked against what the buffer holds before allocating, so a damaged size cannot claim the heap
+        long words = (long) rows * ((columns + 63) >>> 6);
+        if (words > in.remaining() / Long.BYTES) throw new IllegalArgumentException("Grid of " + words + " words exceeds the file");
+        long[] bits = new long[(int) words];
+        in.asLongBuffer().get(bits);
+        in.position(in.position() + bits.length * Long.BYTES);
+        return new WallGrid(width, height, cellWidth, cellHeight, columns, rows, bits);
+    }
+
+    // Returns true if the box [x, x + width) x [y, y + height) overlaps a wall or reaches outside the arena;
+    // touching edges do not count.
+    public boolean overlaps(double x, double y, double width, double height) {
+        if (x < 0 || y < 0 || x + width > this.width || y + height > this.height) return true;
+        int c0 = Math.max(0, (int) Math.floor(x / cellWidth));
+        int c1 = Math.min(columns - 1, (int) Math.ceil((x + width) / cellWidth) - 1);
+        int r0 = Math.max(0, (int) Math.floor(y / cellHeight));
+        int r1 = Math.min(rows - 1, (int) Math.ceil((y + height) / cellHeight) - 1);
+        return anyInRange(c0, c1, r0, r1);
+    }
+
+    // Returns true if the closed box [minX, maxX] x [minY, maxY] overlaps or touches a wall.
+    public boolean touches(double minX, double minY, double maxX, double maxY) {
+        int c0 = Math.max(0, (int) Math.ceil(minX / cellWidth) - 1);
+        int c1 = Math.min(columns - 1, (int) Math.floor(maxX / cellWidth));
+        int r0 = Math.max(0, (int) Math.ceil(minY / cellHeight) - 1);
+        int r1 = Math.min(rows - 1, (int) Math.floor(maxY / cellHeight));
+        return anyInRange(c0, c1, r0, r1);
+    }
+
+    // Sweeps the closed box [minX, maxX] x [minY, maxY] by (dx, dy), which must lie along one axis, and returns
+    // how far it travels before first touching a wall, or -1 if it gets through. This is a grid traversal (DDA):
+    // it steps cell line by cell line through the lines the leading edge enters and tests only the cells of
+    // each line the box spans, so fast movers cannot skip over thin walls. Cells the box already touches at
+    // the start are not reported; use touches() for those.
+    public double sweep(double minX, double minY, double maxX, double maxY, double dx, double dy) {
+        if (dx != 0 && dy != 0) throw new IllegalArgumentException("Sweep must be axis-aligned: " + dx + ", " + dy);
+
+        if (dx != 0) {
+            int r0 = Math.max(0, (int) Math.ceil(minY / cellHeight) - 1);
+            int r1 = Math.min(rows - 1, (int) Math.floor(maxY / cellHeight));
+            if (dx > 0) {
+                // The leading edge maxX touches column c once it reaches c * cellWidth
+                int last = Math.min(columns - 1, (int) Math.floor((maxX + dx) / cellWidth));
+                for (int c = (int) Math.floor(maxX / cellWidth) + 1; c <= last; c++) {
+                    if (c >= 0 && anyInRange(c, c, r0, r1)) return c * (double) cellWidth - maxX;
+                }
+            } else {
+                // The leading edge minX touches column c once it reaches (c + 1) * cellWidth
+                int last = Math.max(0, (int) Math.ceil((minX + dx) / cellWidth) - 1);
+                for (int c = (int) Math.ceil(minX / cellWidth) - 2; c >= last; c--) {
+                    if (c < columns && anyInRange(c, c, r0, r1)) return minX - (c + 1) * (double) cellWidth;
+                }
+            }
+        } else if (dy != 0) {
+            int c0 = Math.max(0, (int) Math.ceil(minX / cellWidth) - 1);
+            int c1 = Math.min(columns - 1, (int) Math.floor(maxX / cellWidth));
+            if (dy > 0) {
+                int last = Math.min(rows - 1, (int) Math.floor((maxY + dy) / cellHeight));
+                for (int r = (int) Math.floor(maxY / cellHeight) + 1; r <= last; r++) {
+                    if (r >= 0 && anyInRange(c0, c1, r, r)) return r * (double) cellHeight - maxY;
+                }
+            } else {
+                int last = Math.max(0, (int) Math.ceil((minY + dy) / cellHeight) - 1);
+                for (int r = (int) Math.ceil(minY / cellHeight) - 2; r >= last; r--) {
+                    if (r < rows && anyInRange(c0, c1, r, r)) return minY - (r + 1) * (double) cellHeight;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // Returns true if the given cell is occupied by a wall; cells outside the grid are free.
+    public boolean isBlocked(int column, int row) {
+        if (column < 0 || column >= columns || row < 0 || row >= rows) return false;
+        return (bits[row * wordsPerRow + (column >>> 6)] & (1L << (column & 63))) != 0;
+    }
+
+    private boolean anyInRange(int c0, int c1, int r0, int r1) {
+        if (c0 > c1 || r0 > r1) return false;
+
+        int w0 = c0 >>> 6;
+        int w1 = c1 >>> 6;
+        long firstMask = -1L << (c0 & 63);
+        long lastMask = -1L >>> (63 - (c1 & 63));
+
+        for (int r = r0; r <= r1; r++) {
+            int base = r * wordsPerRow;
+            for (int w = w0; w <= w1; w++) {
+                long mask = -1L;
+                if (w == w0) mask &= firstMask;
+                if (w == w1) mask &= lastMask;
+                if ((bits[base + w] & mask) != 0) return true;
+            }
+        }
+        return false;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return Math.abs(a);
+    }
+
+    public int getCellWidth() {
+        return cellWidth;
+    }
+
+    public int getCellHeight() {
+        return cellHeight;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+}
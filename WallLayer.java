@@ -0,0 +1,22 @@
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+// The WallLayer class rasterizes the immovable walls of the arena once onto a single canvas.
+// The walls never change, so one pre-baked node replaces hundreds of per-tile ImageViews;
+// collision uses World's WallGrid instead of the nodes.
+public class WallLayer extends Canvas {
+
+    // Paints every wall tile of the world onto a canvas the size of the arena.
+    public WallLayer(World world) {
+        super(world.getWidth(), world.getHeight());
+
+        GraphicsContext gc = getGraphicsContext2D();
+        Image wallImage = Assets.get(Assets.WALL);
+        Arena arena = world.getArena();
+        for (int i = 0; i < arena.getTileCount(); i++) {
+            gc.drawImage(wallImage, arena.getTileX(i), arena.getTileY(i), World.TILE_WIDTH, World.TILE_HEIGHT);
+        }
+        setMouseTransparent(true);
+    }
+}
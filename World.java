@@ -0,0 +1,689 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+// The World class is the pure-Java simulation of the game: walls, tanks, bullets, effects, score and lives.
+// It has no JavaFX dependencies, so it can be rendered by GameManager or run headless at any speed.
+public class World {
+    // Arena and timing constants; WIDTH, HEIGHT and MAX_ENEMIES are the standard game's, see WorldConfig.
+    // Speeds are in pixels per 1/TICKS_PER_SECOND s, the default tick rate; other rates scale them.
+    public static final int WIDTH = 800;
+    public static final int HEIGHT = 700;
+    public static final int TILE_WIDTH = 14;
+    public static final int TILE_HEIGHT = 16;
+    public static final int TICKS_PER_SECOND = 60;
+    public static final int MAX_ENEMIES = 10;
+    private static final int START_LIVES = 3;
+    private static final double PLAYER_SPEED = 1;
+    private static final double ENEMY_SPEED = 1;
+    private static final double PLAYER_RESPAWN_SECONDS = 1.5;
+    private static final double SIGHT_RETRY_SECONDS = 0.2; // An enemy without a clear shot looks again this soon
+    private static final int HASH_CELL_SIZE = 2 * EntityStore.TANK_SIZE;
+    private static final int MIN_ENTITY_CAPACITY = 256;
+    private static final int EFFECT_POOL_SIZE = 64;
+    private static final int TIMER_WHEEL_SECONDS = 4; // Wheel span; covers the default timers, longer ones take extra turns
+    private static final int TIMER_TURN = 0;
+    private static final int TIMER_FIRE = 1;
+    private static final int TIMER_SPAWN = 2;
+    private static final int BULLET_FLYING = 0;   // Outcomes of advanceBullet
+    private static final int BULLET_HIT_WALL = 1;
+    private static final int BULLET_LEFT_ARENA = 2;
+
+    // Fields
+    private final WorldConfig config;
+    private final int width;
+    private final int height;
+    private final int maxEnemies;
+    private final int ticksPerSecond;
+    private final double playerSpeed;    // Per tick, like every speed below
+    private final double enemySpeed;
+    private final double bulletSpeed;
+    private final int playerReloadTime;  // In ticks
+    private final int playerRespawnTime;
+    private final double huntChance;
+    private final boolean blindFire;      // Enemies fire straight ahead on every timer instead of aiming
+    private final int sightRetryTime;
+    private final double playerStartX;
+    private final double playerStartY;
+    private final Random random = new Random();  // The one stream every random game decision draws from
+    private final Random seeds;                   // Hands out one seed per match
+    private long matchSeed;
+    private final Arena arena;          // Static level data, possibly shared with other worlds
+    private final WallGrid wallGrid;
+    private final SpatialHash enemyHash;
+    private final SpawnIndex spawnIndex;
+    private final FlowField flowField;   // Shortest ways to the player, for hunting enemies
+    private final LineOfSight lineOfSight; // Wall occupancy by row and by column, for aiming
+    private final EnemyMover enemyMover;
+    private final TimingWheel timers;
+    private final TimingWheel.Handler timerHandler = this::onTimer;
+    private final EntityStore entities; // Tanks and bullets, as parallel arrays
+    private final List<EffectState> effects = new ArrayList<>();
+    private final Pool<EffectState> effectPool = new Pool<>(EffectState::new, EFFECT_POOL_SIZE);
+    private WorldListener listener = new WorldListener() {};
+    private FrameProfiler profiler;   // Optional; times each tick phase when set
+    private long phaseStart;
+    private GameEvents.Phase phaseEvent; // Flight Recorder event of the running phase, while one is recorded
+    private int player = -1;          // Entity id of the player tank, or -1 while it is respawning
+    private int playerReloadTicks = 0; // Ticks until the player may fire again
+    private int playerRespawnTicks = -1;
+    private int score = 0;
+    private int lives = START_LIVES;
+    private boolean gameOver = false;
+    private long tickCount = 0;
+
+    // Constructs an empty world with the standard arena walls.
+    public World() {
+        this(WorldConfig.standard());
+    }
+
+    // Constructs an empty world for the given configuration and its arena.
+    public World(WorldConfig config) {
+        this.config = config;
+        arena = config.getArena();
+        width = arena.getWidth();
+        height = arena.getHeight();
+        maxEnemies = config.getMaxEnemies();
+        ticksPerSecond = config.getTickRate();
+        double speedScale = (double) TICKS_PER_SECOND / ticksPerSecond;
+        playerSpeed = PLAYER_SPEED * speedScale;
+        enemySpeed = ENEMY_SPEED * speedScale;
+        bulletSpeed = config.getBulletSpeed() * speedScale;
+        playerReloadTime = (int) Math.round(config.getPlayerReloadSeconds() * ticksPerSecond);
+        playerRespawnTime = (int) Math.round(PLAYER_RESPAWN_SECONDS * ticksPerSecond);
+        huntChance = config.getHuntChance();
+        blindFire = config.isBlindFire();
+        sightRetryTime = Math.max(1, (int) Math.round(SIGHT_RETRY_SECONDS * ticksPerSecond));
+        playerStartX = arena.getPlayerX();
+        playerStartY = arena.getPlayerY();
+        seeds = config.isSeeded() ? new Random(config.getSeed()) : new Random();
+
+        wallGrid = arena.getGrid();
+        enemyHash = new SpatialHash(width, height, HASH_CELL_SIZE);
+        spawnIndex = arena.newSpawnIndex();
+        flowField = new FlowField(wallGrid, width, height, TILE_WIDTH, TILE_HEIGHT);
+        lineOfSight = new LineOfSight(wallGrid);
+        enemyMover = new EnemyMover(wallGrid, flowField, ForkJoinPool.commonPool());
+        int wheelBits = 32 - Integer.numberOfLeadingZeros(TIMER_WHEEL_SECONDS * ticksPerSecond - 1); // Slots rounded up to a power of two
+        timers = new TimingWheel(wheelBits, 4 * maxEnemies);
+        entities = new EntityStore(Math.max(MIN_ENTITY_CAPACITY, 4 * maxEnemies));
+    }
+
+    // Registers the listener that is told about entities entering and leaving the world.
+    public void setListener(WorldListener listener) {
+        this.listener = listener;
+    }
+
+    // Attaches a profiler that records the duration of every tick phase, or detaches it with null.
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    // Clears all dynamic state and starts a new match with the next seed of the world's seed sequence.
+    public void reset() {
+        reset(seeds.nextLong());
+    }
+
+    // Clears all dynamic state and starts a new match whose random stream starts from the given seed.
+    // The same seed and the same per-tick inputs always play out the same match, bit for bit.
+    public void reset(long seed) {
+        notifyRemoved(EntityStore.ENEMY);
+        notifyRemoved(EntityStore.PLAYER);
+        notifyRemoved(EntityStore.PLAYER_BULLET);
+        notifyRemoved(EntityStore.ENEMY_BULLET);
+        for (EffectState effect : effects) releaseEffect(effect);
+
+        entities.clear();
+        timers.clear();
+        spawnIndex.clear();
+        effects.clear();
+        player = -1;
+        playerReloadTicks = 0;
+        playerRespawnTicks = -1;
+        score = 0;
+        lives = START_LIVES;
+        gameOver = false;
+        tickCount = 0;
+        matchSeed = seed;
+        random.setSeed(seed);
+
+        spawnPlayer();
+        spawnInitialEnemies();
+    }
+
+    // Advances the simulation by one tick using the given PlayerInput mask.
+    public void tick(int input) {
+        if (gameOver) return;
+
+        tickCount++;
+        entities.savePositions();
+        long tickStart = profiler != null ? System.nanoTime() : 0;
+        phaseStart = tickStart;
+        GameEvents.Phase tickEvent = GameEvents.beginPhase();
+        phaseEvent = GameEvents.beginPhase();
+        updatePlayer(input);
+        endPhase(FrameProfiler.INPUT);
+        updateEnemies();
+        endPhase(FrameProfiler.ENEMIES);
+        rebuildEnemyHash();
+        updateBullets();
+        endPhase(FrameProfiler.BULLETS);
+        updateEffects();
+        endPhase(FrameProfiler.EFFECTS);
+        updateSpawns();
+        endPhase(FrameProfiler.SPAWNS);
+        GameEvents.endPhase(tickEvent, FrameProfiler.TICK, tickCount);
+        if (profiler != null) profiler.record(FrameProfiler.TICK, phaseStart - tickStart);
+    }
+
+    // Records the phase that just finished; the next phase starts now, unless spawns ended the tick.
+    private void endPhase(int phase) {
+        if (phaseEvent != null) {
+            GameEvents.endPhase(phaseEvent, phase, tickCount);
+            phaseEvent = phase == FrameProfiler.SPAWNS ? null : GameEvents.beginPhase();
+        }
+        if (profiler == null) return;
+        long now = System.nanoTime();
+        profiler.record(phase, now - phaseStart);
+        phaseStart = now;
+    }
+
+    // Tells the listener that every live entity of a type is going away.
+    private void notifyRemoved(byte type) {
+        for (int i = 0; i < entities.count(type); i++) {
+            int id = entities.idAt(type, i);
+            if (type == EntityStore.PLAYER_BULLET || type == EntityStore.ENEMY_BULLET) listener.bulletRemoved(id);
+            else listener.tankRemoved(id);
+        }
+    }
+
+    // Tick phase 1: moves the player and fires according to the input mask.
+    private void updatePlayer(int input) {
+        if (player < 0) return;
+
+        if (playerReloadTicks > 0) playerReloadTicks--;
+        if (PlayerInput.isHeld(input, PlayerInput.LEFT)) movePlayer(Direction.LEFT);
+        if (PlayerInput.isHeld(input, PlayerInput.RIGHT)) movePlayer(Direction.RIGHT);
+        if (PlayerInput.isHeld(input, PlayerInput.UP)) movePlayer(Direction.UP);
+        if (PlayerInput.isHeld(input, PlayerInput.DOWN)) movePlayer(Direction.DOWN);
+
+        // Enforces a reload delay between shots
+        if (PlayerInput.isHeld(input, PlayerInput.FIRE) && playerReloadTicks == 0) {
+            playerReloadTicks = playerReloadTime;
+            fireBullet(player, EntityStore.PLAYER_BULLET);
+        }
+    }
+
+    // Turns the player to face the given direction and moves it if no wall is in the way.
+    private void movePlayer(byte direction) {
+        entities.setDirection(player, direction, playerSpeed);
+        double nextX = entities.x[player] + entities.vx[player];
+        double nextY = entities.y[player] + entities.vy[player];
+
+        if (!collidesWithWall(nextX, nextY, EntityStore.TANK_SIZE, EntityStore.TANK_SIZE)) {
+            entities.x[player] = nextX;
+            entities.y[player] = nextY;
+            entities.spriteToggle[player] = !entities.spriteToggle[player]; // Simulate movement animation
+            spawnIndex.move(entities, player);
+        }
+    }
+
+    // Tick phase 2: moves every enemy, then runs the enemy timers that are due this tick.
+    // Wall checks are planned up front (in parallel for large counts); the merge below applies them in
+    // list order, and is the only part that touches shared state or draws random numbers.
+    // The flow field is searched again only on ticks where the player has entered a new cell.
+    private void updateEnemies() {
+        if (player >= 0) flowField.update(entities.x[player], entities.y[player]);
+        enemyMover.plan(entities);
+        for (int i = 0; i < entities.count(EntityStore.ENEMY); i++) {
+            moveEnemy(entities.idAt(EntityStore.ENEMY, i), i);
+        }
+        timers.advance(timerHandler);
+    }
+
+    // Handles an expired enemy timer; recurring timers reschedule themselves.
+    // Timers of destroyed enemies simply lapse: their id was released, so the generation no longer matches.
+    private void onTimer(int enemy, int generation, int kind) {
+        if (!entities.isCurrent(enemy, generation)) return;
+
+        switch (kind) {
+            case TIMER_TURN:
+                turnEnemy(enemy);
+                timers.schedule(enemy, generation, TIMER_TURN, randomTicks(1.0, 1.5));
+                break;
+            case TIMER_FIRE:
+                if (!blindFire && !aimAtPlayer(enemy)) {
+                    timers.schedule(enemy, generation, TIMER_FIRE, sightRetryTime);
+                    break;
+                }
+                fireBullet(enemy, EntityStore.ENEMY_BULLET);
+                timers.schedule(enemy, generation, TIMER_FIRE, randomFireTicks());
+                break;
+            case TIMER_SPAWN:
+                addEnemy(enemy);
+                break;
+        }
+    }
+
+    // Moves an enemy tank by its planned step, or picks a new direction if a wall is in the way.
+    // A hunter that runs into a wall loses the trail and wanders until its next turn.
+    private void moveEnemy(int enemy, int plan) {
+        if (enemyMover.isClear(plan)) {
+            byte direction = enemyMover.getNextDirection(plan);
+            if (direction != entities.direction[enemy]) entities.setDirection(enemy, direction, enemySpeed);
+            entities.x[enemy] = enemyMover.getNextX(plan);
+            entities.y[enemy] = enemyMover.getNextY(plan);
+            entities.spriteToggle[enemy] = !entities.spriteToggle[enemy];
+            spawnIndex.move(entities, enemy);
+        } else {
+            entities.hunting[enemy] = false;
+            chooseNewDirection(enemy);
+        }
+    }
+
+    // Decides whether an enemy hunts the player until its next turn, or wanders off in a random direction.
+    private void turnEnemy(int enemy) {
+        entities.hunting[enemy] = huntChance > 0 && random.nextDouble() < huntChance;
+        if (!entities.hunting[enemy]) chooseNewDirection(enemy);
+    }
+
+    // Randomly selects a new direction for an enemy tank.
+    private void chooseNewDirection(int enemy) {
+        entities.setDirection(enemy, (byte) random.nextInt(Direction.COUNT), enemySpeed);
+    }
+
+    // Turns an enemy towards the player if a shot fired now would reach it; returns false if none would.
+    private boolean aimAtPlayer(int enemy) {
+        if (player < 0) return false;
+
+        byte direction = sightLine(enemy);
+        if (direction == Direction.NONE) return false;
+        if (direction != entities.direction[enemy]) entities.setDirection(enemy, direction, enemySpeed);
+        return true;
+    }
+
+    // Returns the direction in which a bullet fired by the tank now would fly into the player without
+    // touching a wall, or Direction.NONE. The box such a bullet sweeps on its way is checked against the
+    // line-of-sight cache; bullets turned up or down are rotated, as in EntityStore.
+    private byte sightLine(int tank) {
+        double bulletX = muzzleX(tank);
+        double bulletY = muzzleY(tank);
+        double playerX = entities.x[player];
+        double playerY = entities.y[player];
+        double size = EntityStore.TANK_SIZE;
+
+        // Horizontal shots
+        double maxX = bulletX + EntityStore.BULLET_WIDTH;
+        double maxY = bulletY + EntityStore.BULLET_HEIGHT;
+        if (maxY >= playerY && bulletY <= playerY + size) {
+            if (maxX >= playerX && bulletX <= playerX + size) return entities.direction[tank]; // Point blank
+            if (playerX > maxX && lineOfSight.isClear(bulletX, bulletY, playerX, maxY)) return Direction.RIGHT;
+            if (playerX + size < bulletX && lineOfSight.isClear(playerX + size, bulletY, maxX, maxY)) {
+                return Direction.LEFT;
+            }
+        }
+
+        // Vertical shots
+        double minX = bulletX + EntityStore.BULLET_WIDTH / 2.0 - EntityStore.BULLET_HEIGHT / 2.0;
+        double minY = bulletY + EntityStore.BULLET_HEIGHT / 2.0 - EntityStore.BULLET_WIDTH / 2.0;
+        maxX = minX + EntityStore.BULLET_HEIGHT;
+        maxY = minY + EntityStore.BULLET_WIDTH;
+        if (maxX >= playerX && minX <= playerX + size) {
+            if (playerY > maxY && lineOfSight.isClear(minX, minY, maxX, playerY)) return Direction.DOWN;
+            if (playerY + size < minY && lineOfSight.isClear(minX, playerY + size, maxX, maxY)) return Direction.UP;
+        }
+        return Direction.NONE;
+    }
+
+    // Fires a bullet from the center of the tank in the direction it faces.
+    private void fireBullet(int tank, byte bulletType) {
+        double bulletX = muzzleX(tank);
+        double bulletY = muzzleY(tank);
+        int bullet = entities.create(bulletType, bulletX, bulletY, entities.direction[tank], bulletSpeed);
+        entities.activate(bullet);
+        listener.bulletAdded(bullet);
+    }
+
+    // Top-left corner of a bullet leaving the tank, before any rotation.
+    private double muzzleX(int tank) {
+        return entities.x[tank] + EntityStore.TANK_SIZE / 2.0 - 5;
+    }
+
+    private double muzzleY(int tank) {
+        return entities.y[tank] + EntityStore.TANK_SIZE / 2.0 - 5;
+    }
+
+    // Indexes the enemies by position once they have moved, for the bullet phase.
+    private void rebuildEnemyHash() {
+        enemyHash.clear();
+        for (int i = 0; i < entities.count(EntityStore.ENEMY); i++) {
+            enemyHash.insert(entities, entities.idAt(EntityStore.ENEMY, i));
+        }
+    }
+
+    // Tick phase 3: moves bullets and resolves their collisions.
+    // Lists are walked backwards, so a finished bullet is swap-removed with one that was already updated.
+    private void updateBullets() {
+        for (int i = entities.count(EntityStore.PLAYER_BULLET) - 1; i >= 0; i--) {
+            updatePlayerBullet(entities.idAt(EntityStore.PLAYER_BULLET, i));
+        }
+        for (int i = entities.count(EntityStore.ENEMY_BULLET) - 1; i >= 0; i--) {
+            updateEnemyBullet(entities.idAt(EntityStore.ENEMY_BULLET, i));
+        }
+    }
+
+    // Moves a player bullet and removes it once it has hit something or left the arena.
+    // Tanks are tested against the whole path of the tick, so a fast bullet cannot pass through one.
+    private void updatePlayerBullet(int bullet) {
+        double startX = entities.bulletMinX(bullet);
+        double startY = entities.bulletMinY(bullet);
+        int outcome = advanceBullet(bullet);
+
+        // Check for collision with Enemies in the cells the bullet passed through, up to any wall it met
+        double endX = entities.bulletMinX(bullet);
+        double endY = entities.bulletMinY(bullet);
+        int enemy = enemyHash.findNearest(entities, Math.min(startX, endX), Math.min(startY, endY),
+                Math.max(startX, endX) + entities.bulletWidth(bullet), Math.max(startY, endY) + entities.bulletHeight(bullet),
+                entities.vx[bullet], entities.vy[bullet]);
+        if (enemy >= 0) {
+            GameEvents.bulletHit("enemy", false, entities.x[bullet], entities.y[bullet], tickCount);
+            destroyEnemy(enemy);
+            score += 10;
+            removeBullet(bullet);
+            return;
+        }
+
+        // Check for collision with Walls
+        if (outcome == BULLET_HIT_WALL) {
+            GameEvents.bulletHit("wall", false, entities.x[bullet], entities.y[bullet], tickCount);
+            addEffect(EffectState.Kind.SMALL_EXPLOSION, entities.x[bullet], entities.y[bullet]);
+            removeBullet(bullet);
+        } else if (outcome == BULLET_LEFT_ARENA) {
+            removeBullet(bullet);
+        }
+    }
+
+    // Moves an enemy bullet and removes it once it has hit something or left the arena.
+    private void updateEnemyBullet(int bullet) {
+        double startX = entities.bulletMinX(bullet);
+        double startY = entities.bulletMinY(bullet);
+        int outcome = advanceBullet(bullet);
+
+        // Hit the player anywhere along this tick's path
+        if (player >= 0 && bulletPathHitsTank(bullet, startX, startY, player)) {
+            GameEvents.bulletHit("player", true, entities.x[bullet], entities.y[bullet], tickCount);
+            removeBullet(bullet);
+            hitPlayer();
+            return;
+        }
+
+        // Hit a wall
+        if (outcome == BULLET_HIT_WALL) {
+            GameEvents.bulletHit("wall", true, entities.x[bullet], entities.y[bullet], tickCount);
+            addEffect(EffectState.Kind.SMALL_EXPLOSION, entities.x[bullet], entities.y[bullet]);
+            removeBullet(bullet);
+        } else if (outcome == BULLET_LEFT_ARENA) {
+            removeBullet(bullet);
+        }
+    }
+
+    // Moves a bullet one step, sweeping it through the wall grid so it cannot skip over a wall at any speed.
+    // A bullet that meets a wall stops at the point of contact; the caller removes one that left the arena.
+    private int advanceBullet(int bullet) {
+        double minX = entities.bulletMinX(bullet);
+        double minY = entities.bulletMinY(bullet);
+        double vx = entities.vx[bullet];
+        double vy = entities.vy[bullet];
+        double contact = wallGrid.sweep(minX, minY,
+                minX + entities.bulletWidth(bullet), minY + entities.bulletHeight(bullet), vx, vy);
+
+        if (contact >= 0) {
+            double travel = contact / (Math.abs(vx) + Math.abs(vy));
+            entities.x[bullet] += vx * travel;
+            entities.y[bullet] += vy * travel;
+            return BULLET_HIT_WALL;
+        }
+
+        double x = entities.x[bullet] += vx;
+        double y = entities.y[bullet] += vy;
+        if (x < 0 || x > width || y < 0 || y > height) return BULLET_LEFT_ARENA;
+
+        // The sweep only looks at cells ahead; walls the bullet was already touching count as well
+        return bulletHitsWall(bullet) ? BULLET_HIT_WALL : BULLET_FLYING;
+    }
+
+    private void removeBullet(int bullet) {
+        listener.bulletRemoved(bullet);
+        entities.release(bullet);
+    }
+
+    // Tick phase 4: expires finished explosion effects.
+    private void updateEffects() {
+        int kept = 0;
+        for (int i = 0; i < effects.size(); i++) {
+            EffectState effect = effects.get(i);
+            if (--effect.ticksLeft > 0) effects.set(kept++, effect);
+            else releaseEffect(effect);
+        }
+        truncate(effects, kept);
+    }
+
+    private void addEffect(EffectState.Kind kind, double x, double y) {
+        EffectState effect = effectPool.obtain();
+        effect.init(kind, x, y, kind.getLifetimeTicks(ticksPerSecond));
+        effects.add(effect);
+        listener.effectAdded(effect);
+        GameEvents.explosion(kind, x, y, tickCount);
+    }
+
+    private void releaseEffect(EffectState effect) {
+        listener.effectRemoved(effect);
+        effectPool.release(effect);
+    }
+
+    // Drops everything past the first size elements without allocating.
+    private static <T> void truncate(List<T> list, int size) {
+        for (int i = list.size() - 1; i >= size; i--) {
+            list.remove(i);
+        }
+    }
+
+    // Tick phase 5: counts down the player respawn; queued enemies arrive through the timing wheel.
+    private void updateSpawns() {
+        if (playerRespawnTicks > 0 && --playerRespawnTicks == 0) {
+            playerRespawnTicks = -1;
+            spawnPlayer();
+        }
+    }
+
+    private void spawnPlayer() {
+        player = entities.create(EntityStore.PLAYER, playerStartX, playerStartY, Direction.RIGHT, playerSpeed);
+        entities.activate(player);
+        spawnIndex.add(entities, player);
+        listener.tankAdded(player);
+    }
+
+    // Spawns the initial batch of enemies at match start.
+    private void spawnInitialEnemies() {
+        for (int i = 0; i < maxEnemies; i++) {
+            int enemy = findEnemySpawn(true);
+            if (enemy >= 0) addEnemy(enemy);
+        }
+    }
+
+    // Queues a replacement enemy that enters the arena after a short randomized delay.
+    private void spawnEnemy() {
+        int enemy = findEnemySpawn(false);
+        if (enemy < 0) return;
+
+        timers.schedule(enemy, entities.generation(enemy), TIMER_SPAWN, randomTicks(1.0, 1.0));
+    }
+
+    // Picks a random free slot in the upper half of the arena and reserves it for a new enemy;
+    // returns -1 only if every slot is covered by a wall or a tank. The enemy is not alive until addEnemy.
+    private int findEnemySpawn(boolean initial) {
+        GameEvents.enemySpawn(spawnIndex.getFreeCount(), spawnIndex.getFreeCount() > 0, initial, tickCount);
+        if (spawnIndex.getFreeCount() == 0) return -1;
+
+        int slot = spawnIndex.pick(random);
+        int enemy = entities.create(EntityStore.ENEMY, spawnIndex.slotX(slot), spawnIndex.slotY(slot),
+                Direction.RIGHT, enemySpeed);
+        spawnIndex.add(entities, enemy); // Queued enemies hold their slot until they arrive
+        return enemy;
+    }
+
+    // Adds an enemy to the arena and starts its direction and firing timers.
+    private void addEnemy(int enemy) {
+        int generation = entities.generation(enemy);
+        chooseNewDirection(enemy);
+        timers.schedule(enemy, generation, TIMER_TURN, randomTicks(1.0, 1.5));
+        timers.schedule(enemy, generation, TIMER_FIRE, randomFireTicks());
+        entities.activate(enemy);
+        listener.tankAdded(enemy);
+    }
+
+    // Destroys an enemy with an explosion and queues its replacement.
+    private void destroyEnemy(int enemy) {
+        spawnIndex.remove(enemy);
+        addEffect(EffectState.Kind.EXPLOSION, entities.x[enemy], entities.y[enemy]);
+        listener.tankRemoved(enemy);
+        entities.release(enemy);
+        spawnEnemy();
+    }
+
+    // Called when the player is hit by an enemy bullet.
+    private void hitPlayer() {
+        GameEvents.playerDeath(lives - 1, score, entities.x[player], entities.y[player], tickCount);
+        spawnIndex.remove(player);
+        addEffect(EffectState.Kind.EXPLOSION, entities.x[player], entities.y[player]);
+        listener.tankRemoved(player);
+        entities.release(player);
+        player = -1;
+        lives--;
+
+        if (lives <= 0) {
+            gameOver = true;
+        } else {
+            playerRespawnTicks = playerRespawnTime;
+        }
+    }
+
+    // Returns a random duration of base + [0, spread) seconds, in ticks.
+    private int randomTicks(double baseSeconds, double spreadSeconds) {
+        return (int) ((baseSeconds + random.nextDouble() * spreadSeconds) * ticksPerSecond);
+    }
+
+    // Returns the delay until an enemy's next shot, in ticks.
+    private int randomFireTicks() {
+        return randomTicks(config.getEnemyFireBaseSeconds(), config.getEnemyFireSpreadSeconds());
+    }
+
+    // Returns true if a box at (x, y) with the given size overlaps any wall tile.
+    private boolean collidesWithWall(double x, double y, double width, double height) {
+        return wallGrid.overlaps(x, y, width, height);
+    }
+
+    // Bounds tests are inclusive, matching JavaFX Bounds.intersects on touching edges.
+    private boolean bulletHitsWall(int bullet) {
+        double minX = entities.bulletMinX(bullet);
+        double minY = entities.bulletMinY(bullet);
+        return wallGrid.touches(minX, minY, minX + entities.bulletWidth(bullet), minY + entities.bulletHeight(bullet));
+    }
+
+    // Tests the box a bullet swept from (startX, startY) to where it is now.
+    private boolean bulletPathHitsTank(int bullet, double startX, double startY, int tank) {
+        double endX = entities.bulletMinX(bullet);
+        double endY = entities.bulletMinY(bullet);
+        double tankX = entities.x[tank];
+        double tankY = entities.y[tank];
+        return Math.max(startX, endX) + entities.bulletWidth(bullet) >= tankX && Math.min(startX, endX) <= tankX + EntityStore.TANK_SIZE
+                && Math.max(startY, endY) + entities.bulletHeight(bullet) >= tankY && Math.min(startY, endY) <= tankY + EntityStore.TANK_SIZE;
+    }
+
+    // Accessors used by renderers and headless drivers
+    public WorldConfig getConfig() {
+        return config;
+    }
+
+    // Returns how many ticks make one second of game time.
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public Arena getArena() {
+        return arena;
+    }
+
+    public WallGrid getWallGrid() {
+        return wallGrid;
+    }
+
+    // Tanks and bullets live in the store; iterate them with count(type) and idAt(type, i).
+    public EntityStore getEntities() {
+        return entities;
+    }
+
+    // Returns the entity id of the player tank, or -1 while it is respawning.
+    public int getPlayer() {
+        return player;
+    }
+
+    public int getEnemyCount() {
+        return entities.count(EntityStore.ENEMY);
+    }
+
+    public List<EffectState> getEffects() {
+        return Collections.unmodifiableList(effects);
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    // Returns the seed the current match was started with.
+    public long getMatchSeed() {
+        return matchSeed;
+    }
+
+    // Returns a hash of the simulation state (tanks, bullets, effects, score, lives, tick), for checking
+    // that a replay ended exactly where the recorded match did.
+    public long stateHash() {
+        long hash = tickCount;
+        hash = hash * 31 + score;
+        hash = hash * 31 + lives;
+        hash = hash * 31 + player;
+        for (byte type = EntityStore.PLAYER; type <= EntityStore.ENEMY_BULLET; type++) {
+            for (int i = 0; i < entities.count(type); i++) {
+                int id = entities.idAt(type, i);
+                hash = hash * 31 + Double.doubleToLongBits(entities.x[id]);
+                hash = hash * 31 + Double.doubleToLongBits(entities.y[id]);
+                hash = hash * 31 + entities.direction[id];
+            }
+        }
+        for (int i = 0; i < effects.size(); i++) {
+            EffectState effect = effects.get(i);
+            hash = hash * 31 + Double.doubleToLongBits(effect.getX());
+            hash = hash * 31 + Double.doubleToLongBits(effect.getY()) + effect.ticksLeft;
+        }
+        return hash;
+    }
+}
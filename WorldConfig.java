@@ -0,0 +1,288 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+// The WorldConfig class holds the tunable parameters of a match: arena size, enemy cap, fire rates and
+// bullet speed. The defaults reproduce the standard game. Another arena size or an explicit wall seed
+// switches to a procedurally generated arena, which is how the large-arena stress mode is set up; the other
+// settings keep the hand-made arena, and a level file replaces both.
+public class WorldConfig {
+    // Fields
+    private int width = World.WIDTH;
+    private int height = World.HEIGHT;
+    private int maxEnemies = World.MAX_ENEMIES;
+    private double enemyFireBaseSeconds = 1.2;
+    private double enemyFireSpreadSeconds = 1.6;
+    private double playerReloadSeconds = 0.5;
+    private double bulletSpeed = 5;
+    private int tickRate = World.TICKS_PER_SECOND;
+    private double huntChance = 0.25;
+    private boolean blindFire = false;
+    private String level;            // Level file the arena was loaded from, or null
+    private Arena levelArena;
+    private long wallSeed = 1;
+    private boolean wallSeeded = false; // An explicit wall seed asks for a generated arena even at 800x700
+    private long seed = 0;
+    private boolean seeded = false;  // Without a seed, every run plays differently
+    private boolean stress = false;
+
+    // Returns the configuration of the standard game.
+    public static WorldConfig standard() {
+        return new WorldConfig();
+    }
+
+    // Reads stress-mode options from command-line arguments; arguments it does not know are ignored.
+    //   --stress                      report frame rate and tick cost (implied by any option below)
+    //   --arena=WIDTHxHEIGHT          arena size in pixels, with a generated wall layout
+    //   --enemies=N                   enemy cap
+    //   --enemy-fire=BASE,SPREAD      enemy fire interval, BASE + [0, SPREAD) seconds
+    //   --reload=SECONDS              player reload time
+    //   --bullet-speed=PIXELS         bullet speed in pixels per 1/60 s
+    //   --walls=SEED                  seed of the generated wall layout
+    //   --level=FILE                  arena loaded from a level file (text or baked binary, see Arena)
+    //   --hunt=CHANCE                 chance (0 to 1) that an enemy hunts the player after each turn
+    //   --blind-fire                  enemies fire straight ahead on every timer, instead of only with a clear shot
+    //   --seed=SEED                   seed of the game's random stream, for reproducible runs
+    //   --tick-rate=N                 simulation ticks per second; speeds and timers scale with it
+    public static WorldConfig fromArgs(List<String> args) {
+        WorldConfig config = new WorldConfig();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            String name = split < 0 ? arg : arg.substring(0, split);
+            String value = split < 0 ? "" : arg.substring(split + 1);
+            try {
+                switch (name) {
+                    case "--stress":
+                        config.stress = true;
+                        break;
+                    case "--arena":
+                        String[] size = value.split("x");
+                        config.setArenaSize(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+                        break;
+                    case "--enemies":
+                        config.setMaxEnemies(Integer.parseInt(value));
+                        break;
+                    case "--enemy-fire":
+                        String[] fire = value.split(",");
+                        config.setEnemyFireInterval(Double.parseDouble(fire[0]), Double.parseDouble(fire[1]));
+                        break;
+                    case "--reload":
+                        config.setPlayerReloadSeconds(Double.parseDouble(value));
+                        break;
+                    case "--bullet-speed":
+                        config.setBulletSpeed(Double.parseDouble(value));
+                        break;
+                    case "--walls":
+                        config.setWallSeed(Long.parseLong(value));
+                        break;
+                    case "--level":
+                        config.setLevel(value);
+                        break;
+                    case "--hunt":
+                        config.setHuntChance(Double.parseDouble(value));
+                        break;
+                    case "--blind-fire":
+                        config.setBlindFire(true);
+                        break;
+                    case "--seed":
+                        config.setSeed(Long.parseLong(value));
+                        break;
+                    case "--tick-rate":
+                        config.setTickRate(Integer.parseInt(value));
+                        break;
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid option: " + arg, e);
+            }
+        }
+        return config;
+    }
+
+    // Setters return the config, so a stress setup reads as one chain
+    public WorldConfig setArenaSize(int width, int height) {
+        if (width < 8 * World.TILE_WIDTH || height < 8 * World.TILE_HEIGHT) {
+            throw new IllegalArgumentException("Arena too small: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        stress = true;
+        return this;
+    }
+
+    public WorldConfig setMaxEnemies(int maxEnemies) {
+        if (maxEnemies < 0) throw new IllegalArgumentException("Negative enemy cap: " + maxEnemies);
+        this.maxEnemies = maxEnemies;
+        stress = true;
+        return this;
+    }
+
+    public WorldConfig setEnemyFireInterval(double baseSeconds, double spreadSeconds) {
+        if (baseSeconds <= 0 || spreadSeconds < 0) {
+            throw new IllegalArgumentException("Invalid fire interval: " + baseSeconds + "," + spreadSeconds);
+        }
+        this.enemyFireBaseSeconds = baseSeconds;
+        this.enemyFireSpreadSeconds = spreadSeconds;
+        stress = true;
+        return this;
+    }
+
+    public WorldConfig setPlayerReloadSeconds(double seconds) {
+        if (seconds < 0) throw new IllegalArgumentException("Negative reload time: " + seconds);
+        this.playerReloadSeconds = seconds;
+        stress = true;
+        return this;
+    }
+
+    public WorldConfig setBulletSpeed(double bulletSpeed) {
+        if (bulletSpeed <= 0) throw new IllegalArgumentException("Bullet speed must be positive: " + bulletSpeed);
+        this.bulletSpeed = bulletSpeed;
+        stress = true;
+        return this;
+    }
+
+    public WorldConfig setWallSeed(long wallSeed) {
+        this.wallSeed = wallSeed;
+        wallSeeded = true;
+        stress = true;
+        return this;
+    }
+
+    // Loads the arena from a level file; the match plays at the file's arena size. Worlds built from this
+    // configuration share the loaded arena. Does not by itself enable stress reporting.
+    public WorldConfig setLevel(String file) {
+        try {
+            levelArena = Arena.load(Paths.get(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        level = file;
+        width = levelArena.getWidth();
+        height = levelArena.getHeight();
+        return this;
+    }
+
+    // Sets how likely an enemy is to follow the flow field to the player, rather than wander, after each turn.
+    public WorldConfig setHuntChance(double huntChance) {
+        if (!(huntChance >= 0 && huntChance <= 1)) throw new IllegalArgumentException("Hunt chance out of range: " + huntChance);
+        this.huntChance = huntChance;
+        stress = true;
+        return this;
+    }
+
+    // Makes enemies fire whichever way they face whenever their fire timer expires, as they originally did.
+    // By default an enemy only fires when it has a clear line to the player along a row or column.
+    public WorldConfig setBlindFire(boolean blindFire) {
+        this.blindFire = blindFire;
+        stress = true;
+        return this;
+    }
+
+    // Fixes the seed the world derives its match seeds from; does not by itself enable stress reporting.
+    public WorldConfig setSeed(long seed) {
+        this.seed = seed;
+        this.seeded = true;
+        return this;
+    }
+
+    // Sets how many ticks the simulation runs per second of game time. Speeds and timers are converted, so a
+    // lower rate plays the same game in coarser steps; does not by itself enable stress reporting.
+    public WorldConfig setTickRate(int tickRate) {
+        if (tickRate < 10 || tickRate > 1000) throw new IllegalArgumentException("Tick rate out of range: " + tickRate);
+        this.tickRate = tickRate;
+        return this;
+    }
+
+    // Returns true if the hand-made arena of the standard game should be used.
+    public boolean isStandardArena() {
+        return level == null && !wallSeeded && width == World.WIDTH && height == World.HEIGHT;
+    }
+
+    // Returns the arena to play in: the loaded level, the standard arena, or a generated one.
+    public Arena getArena() {
+        if (levelArena != null) return levelArena;
+        return isStandardArena() ? Arena.standard() : Arena.generate(width, height, wallSeed);
+    }
+
+    // Returns true if frame rate and tick cost should be reported.
+    public boolean isStress() {
+        return stress;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getMaxEnemies() {
+        return maxEnemies;
+    }
+
+    public double getEnemyFireBaseSeconds() {
+        return enemyFireBaseSeconds;
+    }
+
+    public double getEnemyFireSpreadSeconds() {
+        return enemyFireSpreadSeconds;
+    }
+
+    public double getPlayerReloadSeconds() {
+        return playerReloadSeconds;
+    }
+
+    public double getBulletSpeed() {
+        return bulletSpeed;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public double getHuntChance() {
+        return huntChance;
+    }
+
+    public boolean isBlindFire() {
+        return blindFire;
+    }
+
+    public long getWallSeed() {
+        return wallSeed;
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Returns the settings as the arguments fromArgs() reads them, one option per element, so values that
+    // contain spaces (a level path) survive being stored and read back.
+    public List<String> toArgs() {
+        List<String> args = new ArrayList<>();
+        args.add("--arena=" + width + "x" + height);
+        args.add("--enemies=" + maxEnemies);
+        args.add("--enemy-fire=" + enemyFireBaseSeconds + "," + enemyFireSpreadSeconds);
+        args.add("--reload=" + playerReloadSeconds);
+        args.add("--bullet-speed=" + bulletSpeed);
+        if (wallSeeded) args.add("--walls=" + wallSeed);
+        args.add("--hunt=" + huntChance);
+        args.add("--tick-rate=" + tickRate);
+        if (blindFire) args.add("--blind-fire");
+        if (level != null) args.add("--level=" + level);
+        if (seeded) args.add("--seed=" + seed);
+        return args;
+    }
+
+    // Describes the settings in the same form fromArgs() reads them.
+    @Override
+    public String toString() {
+        return String.join(" ", toArgs());
+    }
+}
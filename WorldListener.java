@@ -0,0 +1,23 @@
+// The WorldListener interface receives entity lifecycle events from a World.
+// Entities are identified by their EntityStore id, which stays valid until the matching removed event.
+// Renderers use it to create and drop views; headless runs simply don't register one.
+public interface WorldListener {
+
+    // Called when a tank (player or enemy) enters the arena.
+    default void tankAdded(int tank) {}
+
+    // Called when a tank is destroyed or removed.
+    default void tankRemoved(int tank) {}
+
+    // Called when a bullet is fired.
+    default void bulletAdded(int bullet) {}
+
+    // Called when a bullet hits something or leaves the arena.
+    default void bulletRemoved(int bullet) {}
+
+    // Called when an explosion effect starts.
+    default void effectAdded(EffectState effect) {}
+
+    // Called when an explosion effect expires.
+    default void effectRemoved(EffectState effect) {}
+}
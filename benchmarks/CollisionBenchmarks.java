@@ -0,0 +1,197 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+// Workloads for tank-vs-wall, bullet-vs-wall and bullet-vs-tank collision at several arena sizes and entity counts;
+// bench.CollisionBench runs them under JMH. Each call of a workload is one benchmark operation.
+// The "Scan" variants are the original linear scans, kept as baselines for the grid-based versions.
+public class CollisionBenchmarks {
+    private static final int BULLETS = 256;
+    private static final int PROBES = 1024;      // Power of two, so probe indices wrap with a mask
+    private static final double SWEEP_STEP = 40; // Pixels per bullet step, well above the wall thickness
+    private static final double BULLET_STEP = 5;  // Pixels per tick at the default bullet speed
+
+    // Returns the tank-vs-wall, bullet-vs-wall and line-of-sight workloads for one arena size, by benchmark name.
+    public static Map<String, LongSupplier> forArena(int width, int height) {
+        Map<String, LongSupplier> workloads = new HashMap<>();
+        List<int[]> tiles = arenaTiles(width, height);
+        WallGrid grid = new WallGrid(width, height, World.TILE_WIDTH, World.TILE_HEIGHT, tiles);
+        double[][] probes = randomPositions(PROBES, width, height, 1);
+
+        workloads.put("tankWallScan", new LongSupplier() {
+            int next = 0;
+
+            public long getAsLong() {
+                double[] p = probes[next++ & (PROBES - 1)];
+                for (int[] wall : tiles) {
+                    if (p[0] + EntityStore.TANK_SIZE > wall[0] && p[0] < wall[0] + World.TILE_WIDTH
+                            && p[1] + EntityStore.TANK_SIZE > wall[1] && p[1] < wall[1] + World.TILE_HEIGHT) {
+                        return 1;
+                    }
+                }
+                return 0;
+            }
+        });
+
+        workloads.put("tankWallGrid", new LongSupplier() {
+            int next = 0;
+
+            public long getAsLong() {
+                double[] p = probes[next++ & (PROBES - 1)];
+                return grid.overlaps(p[0], p[1], EntityStore.TANK_SIZE, EntityStore.TANK_SIZE) ? 1 : 0;
+            }
+        });
+
+        // One bullet step at a speed well above the wall thickness, in each of the four directions
+        workloads.put("bulletWallSweep", new LongSupplier() {
+            int next = 0;
+
+            public long getAsLong() {
+                int probe = next++;
+                double[] p = probes[probe & (PROBES - 1)];
+                double maxX = p[0] + EntityStore.BULLET_WIDTH;
+                double maxY = p[1] + EntityStore.BULLET_HEIGHT;
+                switch (probe & 3) {
+                    case 0: return (long) grid.sweep(p[0], p[1], maxX, maxY, SWEEP_STEP, 0);
+                    case 1: return (long) grid.sweep(p[0], p[1], maxX, maxY, -SWEEP_STEP, 0);
+                    case 2: return (long) grid.sweep(p[0], p[1], maxX, maxY, 0, SWEEP_STEP);
+                    default: return (long) grid.sweep(p[0], p[1], maxX, maxY, 0, -SWEEP_STEP);
+                }
+            }
+        });
+
+        // A bullet-wide line between two random points, along a row or a column, as enemies check before firing
+        LineOfSight sight = new LineOfSight(grid);
+        workloads.put("sightLineGrid", new LongSupplier() {
+            int next = 0;
+
+            public long getAsLong() {
+                int probe = next++;
+                double[] p = probes[probe & (PROBES - 1)];
+                double[] q = probes[(probe + 1) & (PROBES - 1)];
+                if ((probe & 1) == 0) {
+                    return grid.touches(Math.min(p[0], q[0]), p[1], Math.max(p[0], q[0]), p[1] + EntityStore.BULLET_HEIGHT) ? 1 : 0;
+                }
+                return grid.touches(p[0], Math.min(p[1], q[1]), p[0] + EntityStore.BULLET_HEIGHT, Math.max(p[1], q[1])) ? 1 : 0;
+            }
+        });
+
+        workloads.put("sightLineCache", new LongSupplier() {
+            int next = 0;
+
+            public long getAsLong() {
+                int probe = next++;
+                double[] p = probes[probe & (PROBES - 1)];
+                double[] q = probes[(probe + 1) & (PROBES - 1)];
+                if ((probe & 1) == 0) {
+                    return sight.isClear(Math.min(p[0], q[0]), p[1], Math.max(p[0], q[0]), p[1] + EntityStore.BULLET_HEIGHT) ? 1 : 0;
+                }
+                return sight.isClear(p[0], Math.min(p[1], q[1]), p[0] + EntityStore.BULLET_HEIGHT, Math.max(p[1], q[1])) ? 1 : 0;
+            }
+        });
+        return workloads;
+    }
+
+    // Returns the bullet-vs-tank workloads for one tank count, by benchmark name; each operation is a whole
+    // bullet phase of BULLETS bullets.
+    public static Map<String, LongSupplier> forTanks(int tankCount) {
+        Map<String, LongSupplier> workloads = new HashMap<>();
+
+        // Keep the tank density of the standard arena as the count grows
+        int side = (int) Math.sqrt(tankCount / 10.0 * World.WIDTH * World.HEIGHT);
+        EntityStore store = new EntityStore(tankCount);
+        double[][] positions = randomPositions(tankCount, side, side, 2);
+        for (int i = 0; i < tankCount; i++) {
+            store.activate(store.create(EntityStore.ENEMY, positions[i][0], positions[i][1], Direction.RIGHT, 0));
+        }
+        double[][] bullets = randomPositions(BULLETS, side, side, 3);
+        SpatialHash hash = new SpatialHash(side, side, 2 * EntityStore.TANK_SIZE);
+
+        // Each bullet sweeps one default-speed step in one of the four directions, as World tests it
+        double[][] paths = new double[BULLETS][];
+        for (int i = 0; i < BULLETS; i++) {
+            double[] b = bullets[i];
+            double vx = Direction.dx((byte) (i & 3)) * BULLET_STEP;
+            double vy = Direction.dy((byte) (i & 3)) * BULLET_STEP;
+            paths[i] = new double[]{Math.min(b[0], b[0] + vx), Math.min(b[1], b[1] + vy),
+                    Math.max(b[0], b[0] + vx) + EntityStore.BULLET_WIDTH, Math.max(b[1], b[1] + vy) + EntityStore.BULLET_HEIGHT, vx, vy};
+        }
+
+        // The baseline scans every tank for the one met first along the path, with the same tie rule
+        workloads.put("bulletTankScan", () -> {
+            long hits = 0;
+            for (double[] path : paths) {
+                double nearest = Double.POSITIVE_INFINITY;
+                for (int tank = 0; tank < tankCount; tank++) {
+                    double x = store.x[tank];
+                    double y = store.y[tank];
+                    if (path[2] < x || path[0] > x + EntityStore.TANK_SIZE
+                            || path[3] < y || path[1] > y + EntityStore.TANK_SIZE) continue;
+                    double distance = path[4] > 0 ? x : path[4] < 0 ? -(x + EntityStore.TANK_SIZE)
+                            : path[5] > 0 ? y : -(y + EntityStore.TANK_SIZE);
+                    if (distance < nearest) nearest = distance;
+                }
+                if (nearest != Double.POSITIVE_INFINITY) hits++;
+            }
+            return hits;
+        });
+
+        // Includes the per-tick rebuild, so the comparison is for one whole bullet phase
+        workloads.put("bulletTankHash", () -> {
+            hash.clear();
+            for (int tank = 0; tank < tankCount; tank++) hash.insert(store, tank);
+
+            long hits = 0;
+            for (double[] path : paths) {
+                if (hash.findNearest(store, path[0], path[1], path[2], path[3], path[4], path[5]) >= 0) hits++;
+            }
+            return hits;
+        });
+        return workloads;
+    }
+
+    // Returns wall tiles for an arena: the real layout for the standard size, a seeded random one otherwise.
+    static List<int[]> arenaTiles(int width, int height) {
+        List<int[]> tiles = new ArrayList<>();
+        if (width == World.WIDTH && height == World.HEIGHT) {
+            Arena standard = Arena.standard();
+            for (int i = 0; i < standard.getTileCount(); i++) {
+                tiles.add(new int[]{standard.getTileX(i), standard.getTileY(i)});
+            }
+            return tiles;
+        }
+
+        for (int x = 0; x < width; x += World.TILE_WIDTH) {
+            tiles.add(new int[]{x, 0});
+            tiles.add(new int[]{x, height - World.TILE_HEIGHT});
+        }
+        for (int y = World.TILE_HEIGHT; y < height - World.TILE_HEIGHT; y += World.TILE_HEIGHT) {
+            tiles.add(new int[]{0, y});
+            tiles.add(new int[]{width - World.TILE_WIDTH, y});
+        }
+
+        // Vertical bars of 10 tiles, roughly as dense as the standard arena's interior walls
+        Random random = new Random(42);
+        int bars = width * height / 40_000;
+        for (int i = 0; i < bars; i++) {
+            int x = random.nextInt(width / World.TILE_WIDTH) * World.TILE_WIDTH;
+            int y = random.nextInt(height / World.TILE_HEIGHT) * World.TILE_HEIGHT;
+            for (int j = 0; j < 10; j++) {
+                tiles.add(new int[]{x, y + j * World.TILE_HEIGHT});
+            }
+        }
+        return tiles;
+    }
+
+    static double[][] randomPositions(int count, int width, int height, long seed) {
+        Random random = new Random(seed);
+        double[][] positions = new double[count][];
+        for (int i = 0; i < count; i++) {
+            positions[i] = new double[]{random.nextInt(width - EntityStore.TANK_SIZE), random.nextInt(height - EntityStore.TANK_SIZE)};
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,60 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongSupplier;
+
+// Workloads for the enemy movement planning phase, on one thread and split across the common ForkJoinPool,
+// and for the flow-field search that hunting enemies steer by; bench.EnemyBench runs them under JMH.
+public class EnemyBenchmarks {
+
+    // Returns the planning and flow-field workloads for one tank count, by benchmark name.
+    // The arena grows with the count to keep the tank density of the standard arena.
+    public static Map<String, LongSupplier> forTanks(int tankCount) {
+        Map<String, LongSupplier> workloads = new HashMap<>();
+
+        // Snapped to the tile lattice, so the flow field covers the arena exactly
+        int lattice = World.TILE_WIDTH * World.TILE_HEIGHT;
+        int side = (int) Math.sqrt(tankCount / 10.0 * World.WIDTH * World.HEIGHT) / lattice * lattice;
+        WallGrid grid = new WallGrid(side, side, World.TILE_WIDTH, World.TILE_HEIGHT,
+                CollisionBenchmarks.arenaTiles(side, side));
+
+        // Half the tanks wander, half hunt a target in the middle of the arena
+        FlowField field = new FlowField(grid, side, side, World.TILE_WIDTH, World.TILE_HEIGHT);
+        field.update(side / 2.0, side / 2.0);
+        EntityStore store = new EntityStore(tankCount);
+        double[][] positions = CollisionBenchmarks.randomPositions(tankCount, side, side, 4);
+        Random random = new Random(5);
+        for (int i = 0; i < tankCount; i++) {
+            byte direction = (byte) random.nextInt(Direction.COUNT);
+            int tank = store.create(EntityStore.ENEMY, positions[i][0], positions[i][1], direction, 1);
+            store.hunting[tank] = i % 2 == 0;
+            store.activate(tank);
+        }
+
+        EnemyMover sequential = new EnemyMover(grid, field, new ForkJoinPool(1));
+        workloads.put("enemyPlanSequential", () -> {
+            sequential.plan(store);
+            return sequential.isClear(0) ? 1 : 0;
+        });
+
+        EnemyMover parallel = new EnemyMover(grid, field, ForkJoinPool.commonPool());
+        workloads.put("enemyPlanParallel", () -> {
+            parallel.plan(store);
+            return parallel.isClear(0) ? 1 : 0;
+        });
+
+        // Alternate between two targets so every operation is a full search
+        FlowField searched = new FlowField(grid, side, side, World.TILE_WIDTH, World.TILE_HEIGHT);
+        workloads.put("flowFieldSearch", new LongSupplier() {
+            boolean left;
+
+            public long getAsLong() {
+                left = !left;
+                searched.update(left ? side / 4.0 : side * 3 / 4.0, side / 2.0);
+                return searched.directionAt(side / 2.0, side / 2.0);
+            }
+        });
+        return workloads;
+    }
+}
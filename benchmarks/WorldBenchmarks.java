@@ -0,0 +1,38 @@
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+// Workloads for whole-world hot paths: a full simulation tick and match start (enemy spawn placement), for any
+// arena size and enemy cap; bench.WorldBench runs them under JMH. The standard size gets the hand-made arena,
+// other sizes a generated one, as in the stress mode.
+public class WorldBenchmarks {
+
+    // One simulation tick driven by a random bot that changes its keys every 20 ticks; a lost match starts over.
+    public static LongSupplier tick(int width, int height, int maxEnemies) {
+        World world = new World(config(width, height, maxEnemies));
+        world.reset();
+        Random bot = new Random(7);
+        return new LongSupplier() {
+            int input = PlayerInput.NONE;
+
+            public long getAsLong() {
+                if (world.getTickCount() % 20 == 0) input = bot.nextInt(PlayerInput.FIRE << 1);
+                world.tick(input);
+                if (world.isGameOver()) world.reset();
+                return world.getScore();
+            }
+        };
+    }
+
+    // reset() rebuilds the spawn index and places the player and every initial enemy.
+    public static LongSupplier resetSpawn(int width, int height, int maxEnemies) {
+        World world = new World(config(width, height, maxEnemies));
+        return () -> {
+            world.reset();
+            return world.getEnemyCount();
+        };
+    }
+
+    private static WorldConfig config(int width, int height, int maxEnemies) {
+        return WorldConfig.standard().setArenaSize(width, height).setMaxEnemies(maxEnemies).setSeed(1);
+    }
+}
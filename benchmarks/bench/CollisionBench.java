@@ -0,0 +1,101 @@
+package bench;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Collision hot paths (CollisionBenchmarks): tank and bullet against the wall grid at several arena sizes,
+// and a whole bullet phase against several tank counts. The Scan variants are the linear baselines.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CollisionBench {
+
+    @State(Scope.Thread)
+    public static class ArenaState {
+        @Param({"800x700", "1600x1400", "3200x2800"})
+        public String arena;
+
+        LongSupplier tankWallScan;
+        LongSupplier tankWallGrid;
+        LongSupplier bulletWallSweep;
+        LongSupplier sightLineGrid;
+        LongSupplier sightLineCache;
+
+        @Setup
+        public void setUp() {
+            int[] size = Workloads.size(arena);
+            Map<String, LongSupplier> workloads = Workloads.map("CollisionBenchmarks", "forArena", size[0], size[1]);
+            tankWallScan = workloads.get("tankWallScan");
+            tankWallGrid = workloads.get("tankWallGrid");
+            bulletWallSweep = workloads.get("bulletWallSweep");
+            sightLineGrid = workloads.get("sightLineGrid");
+            sightLineCache = workloads.get("sightLineCache");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TankState {
+        @Param({"10", "100", "1000"})
+        public int tanks;
+
+        LongSupplier bulletTankScan;
+        LongSupplier bulletTankHash;
+
+        @Setup
+        public void setUp() {
+            Map<String, LongSupplier> workloads = Workloads.map("CollisionBenchmarks", "forTanks", tanks);
+            bulletTankScan = workloads.get("bulletTankScan");
+            bulletTankHash = workloads.get("bulletTankHash");
+        }
+    }
+
+    @Benchmark
+    public long tankWallScan(ArenaState state) {
+        return state.tankWallScan.getAsLong();
+    }
+
+    @Benchmark
+    public long tankWallGrid(ArenaState state) {
+        return state.tankWallGrid.getAsLong();
+    }
+
+    @Benchmark
+    public long bulletWallSweep(ArenaState state) {
+        return state.bulletWallSweep.getAsLong();
+    }
+
+    @Benchmark
+    public long sightLineGrid(ArenaState state) {
+        return state.sightLineGrid.getAsLong();
+    }
+
+    @Benchmark
+    public long sightLineCache(ArenaState state) {
+        return state.sightLineCache.getAsLong();
+    }
+
+    // One operation is a bullet phase of 256 bullets
+    @Benchmark
+    public long bulletTankScan(TankState state) {
+        return state.bulletTankScan.getAsLong();
+    }
+
+    @Benchmark
+    public long bulletTankHash(TankState state) {
+        return state.bulletTankHash.getAsLong();
+    }
+}
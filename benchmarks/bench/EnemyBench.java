@@ -0,0 +1,56 @@
+package bench;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Enemy movement planning and flow-field search (EnemyBenchmarks) at several tank counts; the arena grows
+// with the count. The parallel variant uses the common ForkJoinPool.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class EnemyBench {
+    @Param({"1000", "10000", "50000"})
+    public int tanks;
+
+    private LongSupplier enemyPlanSequential;
+    private LongSupplier enemyPlanParallel;
+    private LongSupplier flowFieldSearch;
+
+    @Setup
+    public void setUp() {
+        Map<String, LongSupplier> workloads = Workloads.map("EnemyBenchmarks", "forTanks", tanks);
+        enemyPlanSequential = workloads.get("enemyPlanSequential");
+        enemyPlanParallel = workloads.get("enemyPlanParallel");
+        flowFieldSearch = workloads.get("flowFieldSearch");
+    }
+
+    @Benchmark
+    public long enemyPlanSequential() {
+        return enemyPlanSequential.getAsLong();
+    }
+
+    @Benchmark
+    public long enemyPlanParallel() {
+        return enemyPlanParallel.getAsLong();
+    }
+
+    @Benchmark
+    public long flowFieldSearch() {
+        return flowFieldSearch.getAsLong();
+    }
+}
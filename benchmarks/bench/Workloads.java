@@ -0,0 +1,50 @@
+package bench;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// Bridges the JMH classes to the workload factories. The game and its workloads live in the unnamed package,
+// which code in a named package cannot refer to, while JMH only accepts benchmarks in a named package; so each
+// trial looks its factory up by name once, in setup, and the measured code only calls the returned supplier.
+// This is a deliberate adaptation: moving the game into a package for the benchmarks' sake would change every
+// command line that starts it (java Headless, java Replay, ...), and the lookup costs nothing measured. A
+// renamed factory is the price: it fails when the trial is set up, with the missing name, not when compiling.
+final class Workloads {
+
+    private Workloads() {
+    }
+
+    // Returns the workloads a factory method builds, by benchmark name.
+    @SuppressWarnings("unchecked")
+    static Map<String, LongSupplier> map(String className, String factory, Object... args) {
+        return (Map<String, LongSupplier>) call(className, factory, args);
+    }
+
+    // Returns the single workload a factory method builds.
+    static LongSupplier single(String className, String factory, Object... args) {
+        return (LongSupplier) call(className, factory, args);
+    }
+
+    // Parses an arena parameter such as "800x700" into {width, height}.
+    static int[] size(String arena) {
+        String[] parts = arena.split("x");
+        return new int[]{Integer.parseInt(parts[0]), Integer.parseInt(parts[1])};
+    }
+
+    private static Object call(String className, String factory, Object... args) {
+        try {
+            for (Method method : Class.forName(className).getMethods()) {
+                if (method.getName().equals(factory) && method.getParameterCount() == args.length) {
+                    return method.invoke(null, args);
+                }
+            }
+            throw new IllegalArgumentException("No factory " + className + "." + factory + " taking " + args.length + " arguments");
+        } catch (ClassNotFoundException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
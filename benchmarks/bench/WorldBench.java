@@ -0,0 +1,52 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Whole-world hot paths (WorldBenchmarks): one simulation tick, and match start, which places the player and
+// every initial enemy through the spawn index, across arena sizes and enemy caps. Small arenas cannot fit the
+// largest caps; they spawn as many enemies as there are free slots.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class WorldBench {
+    @Param({"800x700", "1600x1400", "4480x3840"})
+    public String arena;
+
+    @Param({"10", "100", "2000"})
+    public int enemies;
+
+    private LongSupplier tick;
+    private LongSupplier resetSpawn;
+
+    @Setup
+    public void setUp() {
+        int[] size = Workloads.size(arena);
+        tick = Workloads.single("WorldBenchmarks", "tick", size[0], size[1], enemies);
+        resetSpawn = Workloads.single("WorldBenchmarks", "resetSpawn", size[0], size[1], enemies);
+    }
+
+    @Benchmark
+    public long worldTick() {
+        return tick.getAsLong();
+    }
+
+    @Benchmark
+    public long worldResetSpawn() {
+        return resetSpawn.getAsLong();
+    }
+}
@@ -0,0 +1,70 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// Loading baked binary levels: a valid file round-trips, and damaged sizes are rejected before anything is allocated.
+class ArenaTest {
+    private static final int TILE_COUNT_OFFSET = 40; // After magic, version, sizes, tile size and player start
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void binaryRoundTripKeepsTheArena() throws IOException {
+        Arena standard = Arena.standard();
+        Path file = dir.resolve("standard.bin");
+        standard.writeBinary(file);
+
+        Arena loaded = Arena.load(file);
+        assertEquals(standard.getTileCount(), loaded.getTileCount());
+        assertEquals(standard.getPlayerX(), loaded.getPlayerX());
+        assertEquals(standard.getPlayerY(), loaded.getPlayerY());
+    }
+
+    @Test
+    void oversizedTileCountIsCorruptNotOutOfMemory() throws IOException {
+        for (int count : new int[]{0x3FFFFFFE, 200_000_000, -5}) {
+            ByteBuffer bytes = standardBytes();
+            bytes.putInt(TILE_COUNT_OFFSET, count);
+            assertCorrupt(bytes);
+        }
+    }
+
+    @Test
+    void oversizedGridIsCorruptNotOutOfMemory() throws IOException {
+        ByteBuffer bytes = standardBytes();
+        int grid = TILE_COUNT_OFFSET + Integer.BYTES + bytes.getInt(TILE_COUNT_OFFSET) * 2 * Integer.BYTES;
+        bytes.putInt(grid + 2 * Integer.BYTES, Integer.MAX_VALUE); // columns
+        bytes.putInt(grid + 3 * Integer.BYTES, Integer.MAX_VALUE); // rows
+        assertCorrupt(bytes);
+    }
+
+    @Test
+    void truncatedFileIsCorrupt() throws IOException {
+        ByteBuffer bytes = standardBytes();
+        bytes.limit(bytes.limit() - 9);
+        assertCorrupt(bytes);
+    }
+
+    private ByteBuffer standardBytes() throws IOException {
+        Path file = dir.resolve("source.bin");
+        Arena.standard().writeBinary(file);
+        return ByteBuffer.wrap(Files.readAllBytes(file));
+    }
+
+    private void assertCorrupt(ByteBuffer bytes) throws IOException {
+        Path file = dir.resolve("damaged.bin");
+        byte[] content = new byte[bytes.limit()];
+        bytes.get(0, content);
+        Files.write(file, content);
+        IOException e = assertThrows(IOException.class, () -> Arena.load(file));
+        assertTrue(e.getMessage().contains("truncated or corrupt"), e.getMessage());
+    }
+}
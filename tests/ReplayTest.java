@@ -0,0 +1,55 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// Recordings: the config comes back argument for argument, and recordings from an older format are refused.
+class ReplayTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void levelPathWithSpacesRoundTrips() throws IOException {
+        Path level = Files.createDirectories(dir.resolve("my levels")).resolve("arena one.bin");
+        Arena.standard().writeBinary(level);
+        WorldConfig config = WorldConfig.fromArgs(List.of("--level=" + level, "--seed=7"));
+
+        Path file = dir.resolve("match.rec");
+        World world = new World(config);
+        InputRecorder recorder = new InputRecorder(file, config);
+        recorder.begin(world.getMatchSeed());
+        for (int i = 0; i < 120; i++) {
+            int input = i < 60 ? PlayerInput.UP : PlayerInput.FIRE;
+            world.tick(input);
+            recorder.record(input);
+        }
+        recorder.end(world);
+
+        List<Replay.Match> matches = new ArrayList<>();
+        WorldConfig replayed = Replay.read(file, matches);
+        assertEquals(config.toArgs(), replayed.toArgs());
+        assertTrue(replayed.toArgs().contains("--level=" + level));
+        assertEquals(1, matches.size());
+        assertEquals(120, matches.get(0).ticks);
+    }
+
+    @Test
+    void olderRecordingIsRejected() throws IOException {
+        Path file = dir.resolve("old.rec");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(InputRecorder.MAGIC);
+            out.writeByte(1);
+            out.writeUTF(WorldConfig.standard().toString());
+        }
+        IOException e = assertThrows(IOException.class, () -> Replay.read(file, new ArrayList<>()));
+        assertTrue(e.getMessage().contains("version 1"), e.getMessage());
+    }
+}